@@ -0,0 +1,156 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+import javax.measure.spi.ConverterCache;
+import javax.measure.test.function.MultiplyConverter;
+import javax.measure.test.unit.DistanceUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link UnitConverter#convert(double)}, its bulk variants and {@link Unit#getConverterTo(Unit)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+    /**
+     * Number of values converted by the bulk benchmarks.
+     */
+    @Param({ "1024" })
+    public int length;
+
+    /**
+     * The method handle of the same chain as {@link #nested}. Held in a static final field so that the JIT can treat
+     * it as a constant and inline its target, as application code is expected to do.
+     */
+    private static final MethodHandle HANDLE = nested(new MultiplyConverter(1000)).asMethodHandle();
+
+    private UnitConverter scale;
+    private UnitConverter nested;
+    private UnitConverter concatenated;
+    private ConverterCache cache;
+    private double value;
+    private double[] source;
+    private double[] target;
+
+    @Setup
+    public void setup() {
+        scale = new MultiplyConverter(1000);
+        nested = nested(scale);
+        concatenated = scale;
+        for (int i = 0; i < 5; i++) {
+            concatenated = concatenated.concatenate(new MultiplyConverter(i + 2));
+        }
+        cache = new ConverterCache(ConverterCache.DEFAULT_CAPACITY);
+        value = 42.5;
+        source = new double[length];
+        target = new double[length];
+        for (int i = 0; i < length; i++) {
+            source[i] = i * 0.5;
+        }
+    }
+
+    /**
+     * Returns the given converter followed by five scale factors, nested as pairs without concatenation.
+     */
+    private static UnitConverter nested(UnitConverter first) {
+        UnitConverter nested = first;
+        for (int i = 0; i < 5; i++) {
+            nested = new TestConverter.Pair(nested, new MultiplyConverter(i + 2));
+        }
+        return nested;
+    }
+
+    @Benchmark
+    public double convertScalar() {
+        return scale.convert(value);
+    }
+
+    @Benchmark
+    public double convertNested() {
+        return nested.convert(value);
+    }
+
+    @Benchmark
+    public double convertConcatenated() {
+        return concatenated.convert(value);
+    }
+
+    @Benchmark
+    public double convertMethodHandle() throws Throwable {
+        return (double) HANDLE.invokeExact(value);
+    }
+
+    @Benchmark
+    public double[] convertArrayLoop() {
+        for (int i = 0; i < length; i++) {
+            target[i] = scale.convert(source[i]);
+        }
+        return target;
+    }
+
+    @Benchmark
+    public double[] convertArrayBulk() {
+        scale.convert(source, 0, target, 0, length);
+        return target;
+    }
+
+    @Benchmark
+    public UnitConverter getConverterTo() {
+        final Unit<Length> km = DistanceUnit.km;
+        return km.getConverterTo(DistanceUnit.in);
+    }
+
+    @Benchmark
+    public UnitConverter getConverterToCached() {
+        return cache.getConverterTo(DistanceUnit.km, DistanceUnit.in);
+    }
+}
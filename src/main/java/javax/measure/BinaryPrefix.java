@@ -29,6 +29,8 @@
  */
 package javax.measure;
 
+import java.math.BigDecimal;
+
 /**
  * Provides support for common binary prefixes to be used by units. For example:
  * <pre>
@@ -56,7 +58,7 @@ package javax.measure;
  * </dl> 
  *
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.3, October 31, 2023
+ * @version 2.4, October 18, 2026
  * @see <a href="https://en.wikipedia.org/wiki/Binary_prefix">Wikipedia: Binary Prefix</a>
  * @since 2.0
  */
@@ -91,6 +93,34 @@ public enum BinaryPrefix implements Prefix {
      */
     private final int exponent;
 
+    /**
+     * Largest exponent difference between two binary prefixes, from {@link #KIBI} to {@link #YOBI}.
+     */
+    private static final int MAX_RATIO_EXPONENT = 7;
+
+    /**
+     * Powers of 1024 from 1024<sup>-7</sup> to 1024<sup>8</sup>, indexed by exponent + 7. All of them are exact in {@code double}.
+     */
+    private static final double[] POWERS_OF_1024 = new double[2 * MAX_RATIO_EXPONENT + 2];
+
+    /**
+     * Exact powers of 1024 from 1024<sup>-7</sup> to 1024<sup>8</sup>, indexed by exponent + 7.
+     */
+    private static final BigDecimal[] EXACT_POWERS_OF_1024 = new BigDecimal[2 * MAX_RATIO_EXPONENT + 2];
+
+    /**
+     * All prefixes in increasing exponent order, shared to avoid the copy made by {@link #values()}.
+     */
+    private static final BinaryPrefix[] PREFIXES = values();
+
+    static {
+        final BigDecimal base = BigDecimal.valueOf(1024);
+        for (int i = -MAX_RATIO_EXPONENT; i <= MAX_RATIO_EXPONENT + 1; i++) {
+            POWERS_OF_1024[i + MAX_RATIO_EXPONENT] = Math.scalb(1.0, 10 * i);
+            EXACT_POWERS_OF_1024[i + MAX_RATIO_EXPONENT] = (i >= 0) ? base.pow(i) : BigDecimal.ONE.divide(base.pow(-i)); // Terminating.
+        }
+    }
+
     /**
      * Creates a new prefix.
      *
@@ -243,4 +273,97 @@ public enum BinaryPrefix implements Prefix {
     public String getName() {
         return name();
     }
+
+    /**
+     * Returns the factor <code>1024<sup>exponent</sup></code> of this prefix. The value is exact in {@code double}.
+     * This is a table lookup.
+     *
+     * @return the factor of this prefix.
+     * @since 2.3
+     */
+    @Override
+    public double getFactor() {
+        return POWERS_OF_1024[exponent + MAX_RATIO_EXPONENT];
+    }
+
+    /**
+     * Returns the exact factor <code>1024<sup>exponent</sup></code> of this prefix. This is a table lookup; the returned instance is shared.
+     *
+     * @return the exact factor of this prefix.
+     * @since 2.3
+     */
+    public BigDecimal getExactFactor() {
+        return EXACT_POWERS_OF_1024[exponent + MAX_RATIO_EXPONENT];
+    }
+
+    /**
+     * Returns the factor by which a value expressed in a unit with the {@code from} prefix must be multiplied to express it in the same unit
+     * with the {@code to} prefix. For example {@code ratio(MEBI, KIBI)} returns {@code 1024}. This is a table lookup; the result is exact.
+     *
+     * @param from
+     *          the prefix of the source unit, not {@code null}.
+     * @param to
+     *          the prefix of the target unit, not {@code null}.
+     * @return the conversion factor from {@code from} to {@code to}.
+     * @since 2.3
+     */
+    public static double ratio(BinaryPrefix from, BinaryPrefix to) {
+        return POWERS_OF_1024[from.exponent - to.exponent + MAX_RATIO_EXPONENT];
+    }
+
+    /**
+     * Returns the exact factor by which a value expressed in a unit with the {@code from} prefix must be multiplied to express it in the same
+     * unit with the {@code to} prefix. This is a table lookup; the returned instance is shared.
+     *
+     * @param from
+     *          the prefix of the source unit, not {@code null}.
+     * @param to
+     *          the prefix of the target unit, not {@code null}.
+     * @return <code>1024<sup>from.exponent - to.exponent</sup></code>.
+     * @since 2.3
+     * @see #ratio(BinaryPrefix, BinaryPrefix)
+     */
+    public static BigDecimal exactRatio(BinaryPrefix from, BinaryPrefix to) {
+        return EXACT_POWERS_OF_1024[from.exponent - to.exponent + MAX_RATIO_EXPONENT];
+    }
+
+    /**
+     * Returns the converter from a unit with this prefix to the same unit with the {@code that} prefix. For example
+     * {@code MEBI.getConverterTo(KIBI)} multiplies values by {@code 1024}. The factor is computed from the exponents of both prefixes with a table lookup,
+     * without resolving any system unit. Converters between prefixes of this enumeration concatenate into a single step.
+     *
+     * @param that
+     *          the prefix of the target unit, not {@code null}.
+     * @return the converter from this prefix to {@code that} prefix.
+     * @since 2.3
+     */
+    public UnitConverter getConverterTo(BinaryPrefix that) {
+        return new PrefixConverter(1024, exponent - that.exponent, ratio(this, that), ratio(that, this));
+    }
+
+    /**
+     * Returns the largest binary prefix not greater than the given magnitude. For example {@code forMagnitude(3 * 1024 * 1024)}
+     * returns {@link #MEBI}. Magnitudes of 1024<sup>9</sup> or more are given {@link #YOBI}. The prefix is computed from the binary
+     * exponent of the magnitude.
+     *
+     * @param magnitude
+     *          the value to express with a prefix. The sign is ignored.
+     * @return the prefix to use, or {@code null} if the magnitude is less than 1024, or is infinite or NaN.
+     * @since 2.3
+     * @see PrefixedValue#ofBinary(double, Unit)
+     */
+    public static BinaryPrefix forMagnitude(double magnitude) {
+        if (Double.isInfinite(magnitude) || Double.isNaN(magnitude)) {
+            return null;
+        }
+        final int power = Math.min(Math.getExponent(magnitude) / 10, YOBI.exponent);
+        return (power <= 0) ? null : PREFIXES[power - 1];
+    }
+
+    /**
+     * Returns the given value divided by the factor of this prefix. The result is exact unless it underflows.
+     */
+    double unscale(double value) {
+        return Math.scalb(value, -10 * exponent);
+    }
 }
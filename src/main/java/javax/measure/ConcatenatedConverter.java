@@ -0,0 +1,122 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The concatenation of two converters, used by the converters of this package when the steps can not be combined
+ * into a single one. The right converter is applied first, then the left converter.
+ *
+ * @version 1.0, October 18, 2026
+ * @since 2.3
+ * @see UnitConverter#concatenate(UnitConverter)
+ */
+final class ConcatenatedConverter implements UnitConverter {
+    /**
+     * The converter applied last.
+     */
+    private final UnitConverter left;
+
+    /**
+     * The converter applied first.
+     */
+    private final UnitConverter right;
+
+    /**
+     * Creates the concatenation of the given converters.
+     *
+     * @param left
+     *          the converter to apply last.
+     * @param right
+     *          the converter to apply first.
+     */
+    ConcatenatedConverter(UnitConverter left, UnitConverter right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    public boolean isIdentity() {
+        return false;
+    }
+
+    @Override
+    public boolean isLinear() {
+        return left.isLinear() && right.isLinear();
+    }
+
+    @Override
+    public UnitConverter inverse() {
+        return new ConcatenatedConverter(right.inverse(), left.inverse());
+    }
+
+    @Override
+    public Number convert(Number value) {
+        return left.convert(right.convert(value));
+    }
+
+    @Override
+    public double convert(double value) {
+        return left.convert(right.convert(value));
+    }
+
+    @Override
+    public UnitConverter concatenate(UnitConverter converter) {
+        return converter.isIdentity() ? this : new ConcatenatedConverter(this, converter);
+    }
+
+    @Override
+    public List<UnitConverter> getConversionSteps() {
+        final List<UnitConverter> steps = new ArrayList<>(left.getConversionSteps());
+        steps.addAll(right.getConversionSteps());
+        return steps;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof ConcatenatedConverter) {
+            final ConcatenatedConverter other = (ConcatenatedConverter) obj;
+            return left.equals(other.left) && right.equals(other.right);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * left.hashCode() + right.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return left + " \u2218 " + right;
+    }
+}
@@ -45,7 +45,7 @@ import java.util.Map;
  *
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@uom.technology">Werner Keil</a>
- * @version 1.0, August 8, 2016
+ * @version 1.1, October 18, 2026
  * @since 1.0
  * @see Unit
  * @see <a href="http://en.wikipedia.org/wiki/Dimensional_analysis">Wikipedia: Dimensional Analysis</a>
@@ -93,7 +93,54 @@ public interface Dimension {
      * Returns the (fundamental) base dimensions and their exponent whose product is this dimension, or {@code null} if this dimension is a base
      * dimension.
      *
+     * <dl>
+     * <dt><span class="strong">Implementation Requirements:</span></dt><dd>The returned map shall be unmodifiable, so the same instance can be
+     *          returned on every invocation and shared by all callers. Implementations should compute it at most once and publish it safely.</dd>
+     * </dl>
+     *
      * @return the mapping between the fundamental dimensions and their exponent.
      */
     Map<? extends Dimension, Integer> getBaseDimensions();
+
+    /**
+     * Returns the exponents of the SI base dimensions whose product is this dimension, packed in a single {@code long}
+     * as specified by {@link DimensionVector}. When both dimensions have a defined vector, two dimensions are equal if
+     * and only if their vectors are equal, which allows dimension equality checks to be a single {@code long} comparison.
+     * <p>
+     * The default implementation returns {@link DimensionVector#UNDEFINED}. Implementations based on the SI base
+     * dimensions are encouraged to override this method with a precomputed value.
+     * </p>
+     *
+     * @return the packed exponents of this dimension, or {@link DimensionVector#UNDEFINED} if this dimension
+     *         cannot be expressed with SI base dimensions and packed integer exponents.
+     * @since 2.3
+     */
+    default long getExponentVector() {
+        return DimensionVector.UNDEFINED;
+    }
+
+    /**
+     * Returns a fingerprint of this dimension, for constant-time pre-checks of dimension equality.
+     * Equal dimensions shall have equal fingerprints, so two dimensions having different fingerprints are not equal.
+     * If this dimension has a defined {@linkplain #getExponentVector() exponent vector}, the fingerprint is that vector
+     * and equal fingerprints imply equal dimensions. Otherwise the fingerprint is derived from {@link #hashCode()}
+     * with the sign bit set, which never collides with a vector, and equal fingerprints require a full comparison
+     * with {@link #equals(Object)}.
+     * <p>
+     * The default implementation returns the exponent vector if defined, or a spread of {@code hashCode()} otherwise,
+     * which is consistent with {@code equals} whatever the way the dimension has been built. For the fingerprint to
+     * discriminate product dimensions, {@code hashCode()} should mix each exponent with its own base dimension,
+     * as {@link Map#hashCode()} does for the {@linkplain #getBaseDimensions() base dimensions} map.
+     * </p>
+     *
+     * @return the fingerprint of this dimension.
+     * @since 2.3
+     */
+    default long getFingerprint() {
+        final long vector = getExponentVector();
+        if (DimensionVector.isDefined(vector)) {
+            return vector;
+        }
+        return (hashCode() * 0x9E3779B97F4A7C15L) | Long.MIN_VALUE;
+    }
 }
@@ -0,0 +1,311 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure;
+
+/**
+ * Static methods for dimensions expressed as exponents of the seven SI base dimensions packed in a single {@code long}.
+ * Each exponent occupies 8 bits as a signed value in the range [-128 &hellip; 127], in the order of the SI Brochure:
+ * time (T), length (L), mass (M), electric current (I), thermodynamic temperature (&Theta;), amount of substance (N)
+ * and luminous intensity (J). For example the dimension of force, L&middot;M&middot;T<sup>-2</sup>, is given by
+ * {@code DimensionVector.of(-2, 1, 1)}.
+ *
+ * <p>
+ * Packed vectors are compared with {@code ==}, so checking whether two dimensions are equal is a single {@code long}
+ * comparison, and dimension algebra operates on primitive values without allocating maps or boxing exponents.
+ * Dimensions which cannot be expressed in SI base dimensions with integer exponents in the above range are represented
+ * by {@link #UNDEFINED}. This value is propagated by all operations and is never equal to a defined vector,
+ * so two undefined vectors do not tell whether the dimensions are equal.
+ * </p>
+ *
+ * @version 1.0, October 18, 2026
+ * @since 2.3
+ * @see Dimension#getExponentVector()
+ */
+public final class DimensionVector {
+    /** Index of the time (T) exponent. */
+    public static final int TIME = 0;
+
+    /** Index of the length (L) exponent. */
+    public static final int LENGTH = 1;
+
+    /** Index of the mass (M) exponent. */
+    public static final int MASS = 2;
+
+    /** Index of the electric current (I) exponent. */
+    public static final int ELECTRIC_CURRENT = 3;
+
+    /** Index of the thermodynamic temperature (&Theta;) exponent. */
+    public static final int TEMPERATURE = 4;
+
+    /** Index of the amount of substance (N) exponent. */
+    public static final int AMOUNT_OF_SUBSTANCE = 5;
+
+    /** Index of the luminous intensity (J) exponent. */
+    public static final int LUMINOUS_INTENSITY = 6;
+
+    /** The number of SI base dimensions, which is also the number of exponents in a vector. */
+    public static final int BASE_COUNT = 7;
+
+    /** The vector of a dimensionless quantity, with all exponents equal to zero. */
+    public static final long DIMENSIONLESS = 0;
+
+    /** The value representing a dimension which cannot be expressed as a packed vector. */
+    public static final long UNDEFINED = Long.MIN_VALUE;
+
+    /** The symbols of the base dimensions, in the order of their indices. */
+    private static final char[] SYMBOLS = { 'T', 'L', 'M', 'I', '\u0398', 'N', 'J' };
+
+    /** Do not allow instantiation of this class. */
+    private DimensionVector() {
+    }
+
+    /**
+     * Returns the vector having the given exponents, in the order of the base dimension indices.
+     * Missing trailing exponents are zero.
+     *
+     * @param exponents
+     *            the exponents of time, length, mass, electric current, temperature, amount of substance
+     *            and luminous intensity, in that order.
+     * @return the packed vector.
+     * @throws IllegalArgumentException
+     *             if more than {@value #BASE_COUNT} exponents are given.
+     * @throws ArithmeticException
+     *             if an exponent is outside the range of packed exponents.
+     */
+    public static long of(final int... exponents) {
+        if (exponents.length > BASE_COUNT) {
+            throw new IllegalArgumentException("Too many exponents: " + exponents.length);
+        }
+        long vector = DIMENSIONLESS;
+        for (int i = 0; i < exponents.length; i++) {
+            vector = set(vector, i, exponents[i]);
+        }
+        return vector;
+    }
+
+    /**
+     * Returns the vector of the given base dimension, which has an exponent of 1 for that dimension and 0 for all others.
+     *
+     * @param base
+     *            index of the base dimension, for example {@link #LENGTH}.
+     * @return the packed vector of the base dimension.
+     * @throws IndexOutOfBoundsException
+     *             if {@code base} is not a valid index.
+     */
+    public static long base(final int base) {
+        checkIndex(base);
+        return 1L << (base * Byte.SIZE);
+    }
+
+    /**
+     * Returns whether the given value is a packed vector representing a dimension. This method returns {@code false}
+     * for {@link #UNDEFINED}, and for any other value having non-zero bits above the packed exponents, such as
+     * {@linkplain Dimension#getFingerprint() fingerprints} computed from hash codes.
+     *
+     * @param vector
+     *            the packed vector.
+     * @return whether the vector is defined.
+     */
+    public static boolean isDefined(final long vector) {
+        return (vector >>> (BASE_COUNT * Byte.SIZE)) == 0;
+    }
+
+    /**
+     * Returns the exponent of the given base dimension in the given vector.
+     *
+     * @param vector
+     *            the packed vector.
+     * @param base
+     *            index of the base dimension, for example {@link #LENGTH}.
+     * @return the exponent of the base dimension.
+     * @throws IllegalArgumentException
+     *             if {@code vector} is not {@linkplain #isDefined(long) defined}.
+     * @throws IndexOutOfBoundsException
+     *             if {@code base} is not a valid index.
+     */
+    public static int exponent(final long vector, final int base) {
+        if (!isDefined(vector)) {
+            throw new IllegalArgumentException("Undefined dimension vector");
+        }
+        checkIndex(base);
+        return (byte) (vector >>> (base * Byte.SIZE));
+    }
+
+    /**
+     * Returns the vector of the product of the two given dimensions, which is the sum of their exponents.
+     *
+     * @param v1
+     *            the first packed vector.
+     * @param v2
+     *            the second packed vector.
+     * @return the packed vector of {@code v1 * v2}, or {@link #UNDEFINED} if any argument is not {@linkplain #isDefined(long) defined}.
+     * @throws ArithmeticException
+     *             if a resulting exponent is outside the range of packed exponents.
+     */
+    public static long multiply(final long v1, final long v2) {
+        if (!isDefined(v1) || !isDefined(v2)) {
+            return UNDEFINED;
+        }
+        long result = DIMENSIONLESS;
+        for (int i = 0; i < BASE_COUNT; i++) {
+            final int shift = i * Byte.SIZE;
+            result = set(result, i, (byte) (v1 >>> shift) + (byte) (v2 >>> shift));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the vector of the quotient of the two given dimensions, which is the difference of their exponents.
+     *
+     * @param v1
+     *            the dividend packed vector.
+     * @param v2
+     *            the divisor packed vector.
+     * @return the packed vector of {@code v1 / v2}, or {@link #UNDEFINED} if any argument is not {@linkplain #isDefined(long) defined}.
+     * @throws ArithmeticException
+     *             if a resulting exponent is outside the range of packed exponents.
+     */
+    public static long divide(final long v1, final long v2) {
+        if (!isDefined(v1) || !isDefined(v2)) {
+            return UNDEFINED;
+        }
+        long result = DIMENSIONLESS;
+        for (int i = 0; i < BASE_COUNT; i++) {
+            final int shift = i * Byte.SIZE;
+            result = set(result, i, (byte) (v1 >>> shift) - (byte) (v2 >>> shift));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the vector of the given dimension raised to the given power, which multiplies all exponents by {@code n}.
+     *
+     * @param vector
+     *            the packed vector.
+     * @param n
+     *            the power.
+     * @return the packed vector of <code>vector<sup>n</sup></code>, or {@link #UNDEFINED} if {@code vector} is not
+     *         {@linkplain #isDefined(long) defined}.
+     * @throws ArithmeticException
+     *             if a resulting exponent is outside the range of packed exponents.
+     */
+    public static long pow(final long vector, final int n) {
+        if (!isDefined(vector)) {
+            return UNDEFINED;
+        }
+        long result = DIMENSIONLESS;
+        for (int i = 0; i < BASE_COUNT; i++) {
+            result = set(result, i, Math.multiplyExact((byte) (vector >>> (i * Byte.SIZE)), n));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the vector of the given root of the given dimension, which divides all exponents by {@code n}.
+     *
+     * @param vector
+     *            the packed vector.
+     * @param n
+     *            the root's order.
+     * @return the packed vector of the {@code n}th root of {@code vector}, or {@link #UNDEFINED} if {@code vector}
+     *         is not {@linkplain #isDefined(long) defined} or if an exponent is not divisible by {@code n}.
+     * @throws ArithmeticException
+     *             if {@code n == 0}.
+     */
+    public static long root(final long vector, final int n) {
+        if (n == 0) {
+            throw new ArithmeticException("Root's order of zero");
+        }
+        if (!isDefined(vector)) {
+            return UNDEFINED;
+        }
+        long result = DIMENSIONLESS;
+        for (int i = 0; i < BASE_COUNT; i++) {
+            final int exponent = (byte) (vector >>> (i * Byte.SIZE));
+            if (exponent % n != 0) {
+                return UNDEFINED; // Fractional exponents cannot be packed.
+            }
+            result = set(result, i, exponent / n);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a string representation of the given vector, for example <code>"L&middot;M&middot;T^-2"</code> for force.
+     * Base dimensions are written in the conventional order L, M, T, I, &Theta;, N, J.
+     *
+     * @param vector
+     *            the packed vector.
+     * @return a string representation of the vector, {@code "1"} if dimensionless or {@code "undefined"} if not
+     *         {@linkplain #isDefined(long) defined}.
+     */
+    public static String toString(final long vector) {
+        if (!isDefined(vector)) {
+            return "undefined";
+        }
+        if (vector == DIMENSIONLESS) {
+            return "1";
+        }
+        final StringBuilder buffer = new StringBuilder();
+        for (final int base : new int[] { LENGTH, MASS, TIME, ELECTRIC_CURRENT, TEMPERATURE, AMOUNT_OF_SUBSTANCE, LUMINOUS_INTENSITY }) {
+            final int exponent = (byte) (vector >>> (base * Byte.SIZE));
+            if (exponent != 0) {
+                if (buffer.length() != 0) {
+                    buffer.append('\u00B7');
+                }
+                buffer.append(SYMBOLS[base]);
+                if (exponent != 1) {
+                    buffer.append('^').append(exponent);
+                }
+            }
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Returns the given vector with the exponent at the given index replaced by the given value.
+     * The slot shall be zero in the given vector.
+     */
+    private static long set(final long vector, final int base, final int exponent) {
+        if (exponent != (byte) exponent) {
+            throw new ArithmeticException("Dimension exponent out of range: " + exponent);
+        }
+        return vector | ((exponent & 0xFFL) << (base * Byte.SIZE));
+    }
+
+    /**
+     * Verifies that the given index is a valid base dimension index.
+     */
+    private static void checkIndex(final int base) {
+        if (base < 0 || base >= BASE_COUNT) {
+            throw new IndexOutOfBoundsException("Base dimension index: " + base);
+        }
+    }
+}
@@ -29,6 +29,8 @@
  */
 package javax.measure;
 
+import java.math.BigDecimal;
+
 /**
  * Provides support for the 24 prefixes used in the metric system (decimal multiples and submultiples of units). For example:
  *
@@ -59,7 +61,7 @@ package javax.measure;
  * @see <a href="https://en.wikipedia.org/wiki/Metric_prefix">Wikipedia: Metric Prefix</a>
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.4, October 31, 2023
+ * @version 2.5, October 18, 2026
  * @since 2.0
  */
 public enum MetricPrefix implements Prefix {
@@ -137,6 +139,40 @@ public enum MetricPrefix implements Prefix {
      */
     private final int exponent;
 
+    /**
+     * Largest exponent difference between two metric prefixes, from {@link #QUECTO} to {@link #QUETTA}.
+     */
+    private static final int MAX_RATIO_EXPONENT = 60;
+
+    /**
+     * Powers of ten from 10<sup>-60</sup> to 10<sup>60</sup> as correctly rounded {@code double} values, indexed by exponent + 60.
+     */
+    private static final double[] POWERS_OF_TEN = new double[2 * MAX_RATIO_EXPONENT + 1];
+
+    /**
+     * Exact powers of ten from 10<sup>-60</sup> to 10<sup>60</sup>, indexed by exponent + 60.
+     */
+    private static final BigDecimal[] EXACT_POWERS_OF_TEN = new BigDecimal[2 * MAX_RATIO_EXPONENT + 1];
+
+    /**
+     * The prefixes whose exponent is a non-zero multiple of 3, indexed by exponent / 3 + {@link #ENGINEERING_OFFSET}.
+     */
+    private static final MetricPrefix[] ENGINEERING = {
+        QUECTO, RONTO, YOCTO, ZEPTO, ATTO, FEMTO, PICO, NANO, MICRO, MILLI, null, KILO, MEGA, GIGA, TERA, PETA, EXA, ZETTA, YOTTA, RONNA, QUETTA
+    };
+
+    /**
+     * Index of exponent 0 in {@link #ENGINEERING}.
+     */
+    private static final int ENGINEERING_OFFSET = 10;
+
+    static {
+        for (int i = -MAX_RATIO_EXPONENT; i <= MAX_RATIO_EXPONENT; i++) {
+            POWERS_OF_TEN[i + MAX_RATIO_EXPONENT] = Double.parseDouble("1e" + i); // Correctly rounded, unlike Math.pow(10, i).
+            EXACT_POWERS_OF_TEN[i + MAX_RATIO_EXPONENT] = BigDecimal.ONE.scaleByPowerOfTen(i);
+        }
+    }
+
     /**
      * Creates a new prefix.
      *
@@ -535,4 +571,115 @@ public enum MetricPrefix implements Prefix {
     public String getName() {
         return name();
     }
+
+    /**
+     * Returns the factor <code>10<sup>exponent</sup></code> of this prefix as the {@code double} value closest to the exact factor.
+     * This is a table lookup.
+     *
+     * @return the factor of this prefix.
+     * @since 2.3
+     */
+    @Override
+    public double getFactor() {
+        return POWERS_OF_TEN[exponent + MAX_RATIO_EXPONENT];
+    }
+
+    /**
+     * Returns the exact factor <code>10<sup>exponent</sup></code> of this prefix. This is a table lookup; the returned instance is shared.
+     *
+     * @return the exact factor of this prefix.
+     * @since 2.3
+     */
+    public BigDecimal getExactFactor() {
+        return EXACT_POWERS_OF_TEN[exponent + MAX_RATIO_EXPONENT];
+    }
+
+    /**
+     * Returns the factor by which a value expressed in a unit with the {@code from} prefix must be multiplied to express it in the same unit
+     * with the {@code to} prefix. For example {@code ratio(MILLI, KILO)} returns {@code 1e-6}. This is a table lookup; the result is the
+     * {@code double} value closest to <code>10<sup>from.exponent - to.exponent</sup></code>.
+     *
+     * @param from
+     *          the prefix of the source unit, not {@code null}.
+     * @param to
+     *          the prefix of the target unit, not {@code null}.
+     * @return the conversion factor from {@code from} to {@code to}.
+     * @since 2.3
+     */
+    public static double ratio(MetricPrefix from, MetricPrefix to) {
+        return POWERS_OF_TEN[from.exponent - to.exponent + MAX_RATIO_EXPONENT];
+    }
+
+    /**
+     * Returns the exact factor by which a value expressed in a unit with the {@code from} prefix must be multiplied to express it in the same
+     * unit with the {@code to} prefix. This is a table lookup; the returned instance is shared.
+     *
+     * @param from
+     *          the prefix of the source unit, not {@code null}.
+     * @param to
+     *          the prefix of the target unit, not {@code null}.
+     * @return <code>10<sup>from.exponent - to.exponent</sup></code>.
+     * @since 2.3
+     * @see #ratio(MetricPrefix, MetricPrefix)
+     */
+    public static BigDecimal exactRatio(MetricPrefix from, MetricPrefix to) {
+        return EXACT_POWERS_OF_TEN[from.exponent - to.exponent + MAX_RATIO_EXPONENT];
+    }
+
+    /**
+     * Returns the converter from a unit with this prefix to the same unit with the {@code that} prefix. For example
+     * {@code MILLI.getConverterTo(KILO)} multiplies values by {@code 1e-6}. The factor is computed from the exponents of both prefixes with a table lookup,
+     * without resolving any system unit. Converters between prefixes of this enumeration concatenate into a single step.
+     *
+     * @param that
+     *          the prefix of the target unit, not {@code null}.
+     * @return the converter from this prefix to {@code that} prefix.
+     * @since 2.3
+     */
+    public UnitConverter getConverterTo(MetricPrefix that) {
+        return new PrefixConverter(10, exponent - that.exponent, ratio(this, that), ratio(that, this));
+    }
+
+    /**
+     * Returns the prefix which brings the given magnitude in the range [1, 1000), considering only the prefixes whose exponent is a
+     * multiple of 3 (engineering notation). For example {@code forMagnitude(0.000123)} returns {@link #MICRO}. Magnitudes below
+     * 10<sup>-30</sup> or above 10<sup>33</sup> are given {@link #QUECTO} or {@link #QUETTA} respectively. The prefix is found with
+     * exponent arithmetic and a table lookup, without computing logarithms or formatting the value.
+     *
+     * @param magnitude
+     *          the value to express with a prefix. The sign is ignored.
+     * @return the prefix to use, or {@code null} if the magnitude is already in the range [1, 1000), or is zero, infinite or NaN.
+     * @since 2.3
+     * @see PrefixedValue#ofMetric(double, Unit)
+     */
+    public static MetricPrefix forMagnitude(double magnitude) {
+        magnitude = Math.abs(magnitude);
+        if (magnitude == 0 || Double.isInfinite(magnitude) || Double.isNaN(magnitude)) {
+            return null;
+        }
+        if (magnitude >= 1e30) {
+            return QUETTA;
+        }
+        if (magnitude < 1e-30) {
+            return QUECTO;
+        }
+        // Estimate floor(log10(magnitude)) from the binary exponent, then correct by at most one.
+        int power = (int) Math.floor(Math.getExponent(magnitude) * 0.3010299956639812); // log10(2)
+        if (magnitude >= POWERS_OF_TEN[power + 1 + MAX_RATIO_EXPONENT]) {
+            power++;
+        } else if (magnitude < POWERS_OF_TEN[power + MAX_RATIO_EXPONENT]) {
+            power--;
+        }
+        power = Math.floorDiv(power, 3);
+        return (power == 0) ? null : ENGINEERING[power + ENGINEERING_OFFSET];
+    }
+
+    /**
+     * Returns the given value divided by the factor of this prefix. Negative exponents multiply by an exact power of ten
+     * instead of dividing by an inexact one, so the result is correctly rounded for exponents down to -22.
+     */
+    double unscale(double value) {
+        return (exponent >= 0) ? value / POWERS_OF_TEN[exponent + MAX_RATIO_EXPONENT]
+                : value * POWERS_OF_TEN[-exponent + MAX_RATIO_EXPONENT];
+    }
 }
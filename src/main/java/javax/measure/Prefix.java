@@ -34,7 +34,7 @@ package javax.measure;
  *
  * @see <a href="https://en.wikipedia.org/wiki/Unit_prefix">Wikipedia: Unit Prefix</a>
  * @author <a href="mailto:werner@uom.technology">Werner Keil</a>
- * @version 1.4, April 3, 2023
+ * @version 1.5, October 18, 2026
  * @since 2.0
  */
 public interface Prefix {
@@ -67,4 +67,19 @@ public interface Prefix {
      * @return the exponent part of this prefix.
      */
     int getExponent();
+
+    /**
+     * Returns the factor of this prefix as a {@code double}, that is {@code getValue()} raised to the power of {@code getExponent()}.
+     *
+     * <dl>
+     * <dt><span class="strong">Implementation Note:</span></dt><dd>The default implementation computes the factor with {@link Math#pow(double, double)}
+     *          on each invocation. {@link MetricPrefix} and {@link BinaryPrefix} override it with a lookup in a precomputed table.</dd>
+     * </dl>
+     *
+     * @return the factor of this prefix.
+     * @since 2.3
+     */
+    default double getFactor() {
+        return Math.pow(getValue().doubleValue(), getExponent());
+    }
 }
\ No newline at end of file
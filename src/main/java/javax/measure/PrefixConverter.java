@@ -0,0 +1,264 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Converter between two prefixed forms of the same unit, for example from {@code MILLI(METRE)} to {@code KILO(METRE)}.
+ * The conversion factor is <code>radix<sup>exponent</sup></code> where the radix is 10 for {@link MetricPrefix} and 1024
+ * for {@link BinaryPrefix}. The {@code double} factors are taken from the prefix tables, so no system unit is resolved.
+ *
+ * @version 1.0, October 18, 2026
+ * @since 2.3
+ * @see MetricPrefix#getConverterTo(MetricPrefix)
+ * @see BinaryPrefix#getConverterTo(BinaryPrefix)
+ */
+final class PrefixConverter implements UnitConverter {
+    /**
+     * Powers of ten which fit in a {@code long}, from 10<sup>0</sup> to 10<sup>18</sup>.
+     */
+    private static final long[] LONG_POWERS_OF_TEN = new long[19];
+    static {
+        long power = 1;
+        for (int i = 0; i < LONG_POWERS_OF_TEN.length; i++) {
+            LONG_POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    /**
+     * The base of the factor: 10 or 1024.
+     */
+    private final int radix;
+
+    /**
+     * The power of {@link #radix} by which values are multiplied.
+     */
+    private final int exponent;
+
+    /**
+     * <code>radix<sup>exponent</sup></code>, used when the exponent is positive or zero.
+     */
+    private final double multiplier;
+
+    /**
+     * <code>radix<sup>-exponent</sup></code>, used when the exponent is negative. Powers of ten up to 10<sup>22</sup>
+     * are exact in {@code double}, so dividing by them gives a correctly rounded result while multiplying by the
+     * inexact negative power may not. Larger powers are themselves rounded, so the result may be one ulp off.
+     */
+    private final double divisor;
+
+    /**
+     * Creates a new converter.
+     *
+     * @param radix
+     *          the base of the factor: 10 or 1024.
+     * @param exponent
+     *          the power of the radix by which values are multiplied.
+     * @param multiplier
+     *          <code>radix<sup>exponent</sup></code>.
+     * @param divisor
+     *          <code>radix<sup>-exponent</sup></code>.
+     */
+    PrefixConverter(int radix, int exponent, double multiplier, double divisor) {
+        this.radix = radix;
+        this.exponent = exponent;
+        this.multiplier = multiplier;
+        this.divisor = divisor;
+    }
+
+    /**
+     * Creates a converter for the given exponent, computing the factors from their exact values.
+     */
+    private static PrefixConverter create(int radix, int exponent) {
+        return new PrefixConverter(radix, exponent, exactPower(radix, exponent).doubleValue(), exactPower(radix, -exponent).doubleValue());
+    }
+
+    /**
+     * Returns <code>radix<sup>exponent</sup></code> as an exact decimal. Negative powers of 10 and 1024 are always terminating.
+     */
+    private static BigDecimal exactPower(int radix, int exponent) {
+        if (radix == 10) {
+            return BigDecimal.ONE.scaleByPowerOfTen(exponent);
+        }
+        final BigDecimal power = BigDecimal.valueOf(radix).pow(Math.abs(exponent));
+        return (exponent >= 0) ? power : BigDecimal.ONE.divide(power);
+    }
+
+    @Override
+    public boolean isIdentity() {
+        return exponent == 0;
+    }
+
+    @Override
+    public boolean isLinear() {
+        return true;
+    }
+
+    @Override
+    public UnitConverter inverse() {
+        return new PrefixConverter(radix, -exponent, divisor, multiplier);
+    }
+
+    /**
+     * Converts the given value. {@link Long}, {@link Integer}, {@link Short}, {@link Byte}, {@link BigInteger} and
+     * {@link BigDecimal} values are converted exactly, other values are converted as {@code double}. An integer value
+     * gives a {@link Long} when the result is an integer fitting in a {@code long}.
+     */
+    @Override
+    public Number convert(Number value) {
+        Objects.requireNonNull(value);
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            final long v = value.longValue();
+            final long power = longPower();
+            if (power != 0) {
+                if (exponent < 0) {
+                    if (v % power == 0) {
+                        return v / power;
+                    }
+                } else {
+                    try {
+                        return Math.multiplyExact(v, power);
+                    } catch (ArithmeticException e) {
+                        // Overflow: fall back to BigDecimal below.
+                    }
+                }
+            }
+            return BigDecimal.valueOf(v).multiply(exactPower(radix, exponent));
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).multiply(exactPower(radix, exponent));
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value).multiply(exactPower(radix, exponent));
+        }
+        return convert(value.doubleValue());
+    }
+
+    /**
+     * Converts the given value with a single multiplication or division. The result is correctly rounded for binary
+     * prefixes, and for metric prefixes when the exponent difference is at most 22 in magnitude.
+     */
+    @Override
+    public double convert(double value) {
+        return (exponent >= 0) ? value * multiplier : value / divisor;
+    }
+
+    /**
+     * Converts a {@code long} value with {@code long} arithmetic when the power of the radix fits in a {@code long}.
+     * Positive exponents multiply exactly, negative exponents divide with the given rounding.
+     */
+    @Override
+    public long convert(long value, RoundingMode rounding) {
+        Objects.requireNonNull(rounding);
+        final long power = longPower();
+        if (power == 0) {
+            return UnitConverter.super.convert(value, rounding);
+        }
+        return (exponent >= 0) ? Math.multiplyExact(value, power) : RationalConverter.divide(value, power, rounding);
+    }
+
+    /**
+     * Returns <code>radix<sup>|exponent|</sup></code> as a {@code long}, or 0 if it does not fit.
+     */
+    private long longPower() {
+        final int n = Math.abs(exponent);
+        if (radix == 10) {
+            return (n < LONG_POWERS_OF_TEN.length) ? LONG_POWERS_OF_TEN[n] : 0;
+        }
+        return (n <= 6) ? 1L << (10 * n) : 0;
+    }
+
+    /**
+     * Returns the factor of this converter as an exact fraction.
+     *
+     * @return the rational converter equivalent to this converter.
+     */
+    RationalConverter toRational() {
+        final BigInteger power = BigInteger.valueOf(radix).pow(Math.abs(exponent));
+        return (exponent >= 0) ? RationalConverter.of(power, BigInteger.ONE) : RationalConverter.of(BigInteger.ONE, power);
+    }
+
+    /**
+     * Returns the concatenation of this converter with the given one. Two prefix converters of the same radix
+     * are combined into a single prefix converter by adding their exponents. Prefix converters of different radix
+     * and {@link RationalConverter}s are combined into a single rational converter.
+     */
+    @Override
+    public UnitConverter concatenate(UnitConverter converter) {
+        if (converter instanceof PrefixConverter) {
+            final PrefixConverter other = (PrefixConverter) converter;
+            if (other.radix == radix) {
+                return create(radix, exponent + other.exponent);
+            }
+            return toRational().concatenate(other.toRational());
+        }
+        if (converter instanceof RationalConverter) {
+            return toRational().concatenate(converter);
+        }
+        if (converter.isIdentity()) {
+            return this;
+        }
+        if (isIdentity()) {
+            return converter;
+        }
+        return new ConcatenatedConverter(this, converter);
+    }
+
+    @Override
+    public List<PrefixConverter> getConversionSteps() {
+        return Collections.singletonList(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof PrefixConverter) {
+            final PrefixConverter other = (PrefixConverter) obj;
+            return radix == other.radix && exponent == other.exponent;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * radix + exponent;
+    }
+
+    @Override
+    public String toString() {
+        return "PrefixConverter(" + radix + '^' + exponent + ')';
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure;
+
+import java.util.Objects;
+
+/**
+ * A value together with the prefixed unit in which it is expressed, as selected by {@link MetricPrefix#forMagnitude(double)}
+ * or {@link BinaryPrefix#forMagnitude(double)}. This is intended for normalizing values before display or storage,
+ * for example 0.000123 s is expressed as 123 &micro;s:
+ *
+ * <pre>
+ * {@code PrefixedValue<Time> v = PrefixedValue.ofMetric(0.000123, SECOND);
+ * v.getValue();  // 123 (within rounding)
+ * v.getPrefix(); // MICRO
+ * v.getUnit();   // SECOND.prefix(MICRO)}
+ * </pre>
+ *
+ * <p>The prefix is selected with exponent arithmetic and the value is scaled with a single multiplication or division
+ * by a precomputed factor. Apart from the unit created by {@link Unit#prefix(Prefix)}, the only allocation is this object.</p>
+ *
+ * <dl>
+ * <dt><span class="strong">Implementation Requirements:</span></dt>
+ * <dd>This class is immutable and thread-safe.</dd>
+ * </dl>
+ *
+ * @param <Q>
+ *            The type of the quantity.
+ *
+ * @version 1.0, October 18, 2026
+ * @since 2.3
+ */
+public final class PrefixedValue<Q extends Quantity<Q>> {
+    /**
+     * The value expressed in {@link #unit}.
+     */
+    private final double value;
+
+    /**
+     * The prefix applied to the original unit, or {@code null} if none.
+     */
+    private final Prefix prefix;
+
+    /**
+     * The original unit with {@link #prefix} applied.
+     */
+    private final Unit<Q> unit;
+
+    /**
+     * Creates a new prefixed value.
+     */
+    private PrefixedValue(final double value, final Prefix prefix, final Unit<Q> unit) {
+        this.value = value;
+        this.prefix = prefix;
+        this.unit = unit;
+    }
+
+    /**
+     * Expresses the given value with the metric prefix selected by {@link MetricPrefix#forMagnitude(double)}.
+     *
+     * @param <Q>
+     *          the type of the quantity.
+     * @param value
+     *          the value in the given unit.
+     * @param unit
+     *          the unit of the value, without prefix. Not {@code null}.
+     * @return the value scaled to the selected prefix, and the prefixed unit.
+     */
+    public static <Q extends Quantity<Q>> PrefixedValue<Q> ofMetric(final double value, final Unit<Q> unit) {
+        Objects.requireNonNull(unit);
+        final MetricPrefix prefix = MetricPrefix.forMagnitude(value);
+        if (prefix == null) {
+            return new PrefixedValue<>(value, null, unit);
+        }
+        return new PrefixedValue<>(prefix.unscale(value), prefix, unit.prefix(prefix));
+    }
+
+    /**
+     * Expresses the given value with the binary prefix selected by {@link BinaryPrefix#forMagnitude(double)}.
+     *
+     * @param <Q>
+     *          the type of the quantity.
+     * @param value
+     *          the value in the given unit.
+     * @param unit
+     *          the unit of the value, without prefix. Not {@code null}.
+     * @return the value scaled to the selected prefix, and the prefixed unit.
+     */
+    public static <Q extends Quantity<Q>> PrefixedValue<Q> ofBinary(final double value, final Unit<Q> unit) {
+        Objects.requireNonNull(unit);
+        final BinaryPrefix prefix = BinaryPrefix.forMagnitude(value);
+        if (prefix == null) {
+            return new PrefixedValue<>(value, null, unit);
+        }
+        return new PrefixedValue<>(prefix.unscale(value), prefix, unit.prefix(prefix));
+    }
+
+    /**
+     * Returns the value expressed in the {@linkplain #getUnit() prefixed unit}.
+     *
+     * @return the scaled value.
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the selected prefix.
+     *
+     * @return the prefix, or {@code null} if the value did not need one.
+     */
+    public Prefix getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Returns the unit in which {@link #getValue()} is expressed. This is the original unit if no prefix was selected.
+     *
+     * @return the prefixed unit.
+     */
+    public Unit<Q> getUnit() {
+        return unit;
+    }
+
+    /**
+     * Compares this prefixed value with the given object for equality.
+     *
+     * @param obj
+     *          the object to compare with this prefixed value.
+     * @return {@code true} if the given object has the same value, prefix and unit.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof PrefixedValue) {
+            final PrefixedValue<?> other = (PrefixedValue<?>) obj;
+            return Double.doubleToLongBits(value) == Double.doubleToLongBits(other.value) && prefix == other.prefix && unit.equals(other.unit);
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash code value for this prefixed value.
+     *
+     * @return a hash code value.
+     */
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value) + 31 * unit.hashCode();
+    }
+
+    /**
+     * Returns the value followed by the unit.
+     *
+     * @return a string representation of this prefixed value.
+     */
+    @Override
+    public String toString() {
+        return Double.toString(value) + ' ' + unit;
+    }
+}
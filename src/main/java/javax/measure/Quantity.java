@@ -91,7 +91,7 @@ package javax.measure;
  * @see <a href="http://en.wikipedia.org/wiki/Quantity">Wikipedia: Quantity</a>
  * @see <a href="http://martinfowler.com/eaaDev/quantity.html">Martin Fowler -
  *      Quantity</a>
- * @version 2.6, October 3, 2024
+ * @version 2.7, October 18, 2026
  * @since 1.0
  */
 public interface Quantity<Q extends Quantity<Q>> {
@@ -268,6 +268,29 @@ public interface Quantity<Q extends Quantity<Q>> {
      */
     Number getValue();
 
+    /**
+     * Returns the value of this {@code Quantity} as a {@code double}.
+     * This is equivalent to {@code getValue().doubleValue()}, but implementations storing
+     * their value as a primitive {@code double} are encouraged to override this method
+     * for avoiding the creation of a {@link Number} wrapper on each invocation.
+     * Combined with a converter fetched once, this allows computations in tight loops
+     * without creating intermediate quantities. For example:
+     * <p>
+     * <code>
+     *     UnitConverter toMetre = ...;<br>
+     *     double sum = 0;<br>
+     *     for ({@literal Quantity<Length>} q : lengths) sum += toMetre.convert(q.doubleValue());
+     * </code>
+     * </p>
+     *
+     * @return the value, possibly rounded to the nearest {@code double}.
+     * @see #getValue()
+     * @since 2.3
+     */
+    default double doubleValue() {
+        return getValue().doubleValue();
+    }
+
     /**
      * Returns the unit of this {@code Quantity}.
      *
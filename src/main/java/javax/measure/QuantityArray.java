@@ -0,0 +1,346 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable sequence of quantities sharing the same unit, stored as a primitive array of values.
+ * This columnar representation is intended for large numbers of quantities, where the memory used by
+ * one {@link Quantity} object per value (with its own {@link Number} and {@link Unit} references)
+ * would be prohibitive. Each value occupies eight bytes, and bulk operations are delegated to
+ * {@link UnitConverter#convert(double[], int, double[], int, int)}.
+ *
+ * <p>Arithmetic operations follow the same rules as {@link Quantity}: the result shall be as if all
+ * operands were converted to {@linkplain Unit#getSystemUnit() system unit} before the operation is
+ * carried out. When the conversion from the unit of this array to its system unit is
+ * {@linkplain UnitConverter#isLinear() linear}, operations are applied directly on the stored values.</p>
+ *
+ * <dl>
+ * <dt><span class="strong">Implementation Requirements:</span></dt>
+ * <dd>This class is immutable and thread-safe.</dd>
+ * </dl>
+ *
+ * @param <Q>
+ *            The type of the quantities.
+ *
+ * @version 1.0, October 18, 2026
+ * @since 2.3
+ * @see Quantity
+ */
+public final class QuantityArray<Q extends Quantity<Q>> {
+    /**
+     * The unit of all values in this array.
+     */
+    private final Unit<Q> unit;
+
+    /**
+     * The values in {@link #unit}. This array shall never be modified or exposed.
+     */
+    private final double[] values;
+
+    /**
+     * Creates a new array wrapping the given values without copying them.
+     */
+    private QuantityArray(final Unit<Q> unit, final double[] values) {
+        this.unit = unit;
+        this.values = values;
+    }
+
+    /**
+     * Returns an array of quantities having the given values, all stated in the given unit.
+     *
+     * @param <Q>
+     *            The type of the quantities.
+     * @param unit
+     *            the unit of all values.
+     * @param values
+     *            the values in the given unit. This array is copied.
+     * @return an array of quantities having the given values.
+     * @throws NullPointerException
+     *             if {@code unit} or {@code values} is null.
+     */
+    public static <Q extends Quantity<Q>> QuantityArray<Q> of(final Unit<Q> unit, final double... values) {
+        return new QuantityArray<>(Objects.requireNonNull(unit, "unit"), values.clone());
+    }
+
+    /**
+     * Returns an array of quantities equivalent to the given ones, all converted to the given unit.
+     *
+     * @param <Q>
+     *            The type of the quantities.
+     * @param unit
+     *            the unit in which to state all values.
+     * @param quantities
+     *            the quantities to store in the array.
+     * @return an array of quantities equivalent to the given ones.
+     * @throws NullPointerException
+     *             if {@code unit}, {@code quantities} or one of its elements is null.
+     * @throws UnconvertibleException
+     *             if a quantity unit cannot be converted to the specified unit.
+     */
+    public static <Q extends Quantity<Q>> QuantityArray<Q> of(final Unit<Q> unit, final Collection<? extends Quantity<Q>> quantities) {
+        Objects.requireNonNull(unit, "unit");
+        final double[] values = new double[quantities.size()];
+        Unit<Q> previous = unit;
+        UnitConverter converter = null;
+        int i = 0;
+        for (final Quantity<Q> q : quantities) {
+            final Unit<Q> source = q.getUnit();
+            if (source != previous) {
+                converter = source.equals(unit) ? null : source.getConverterTo(unit);
+                previous = source;
+            }
+            final double value = q.doubleValue();
+            values[i++] = (converter != null) ? converter.convert(value) : value;
+        }
+        return new QuantityArray<>(unit, (i == values.length) ? values : Arrays.copyOf(values, i));
+    }
+
+    /**
+     * Returns the unit of all values in this array.
+     *
+     * @return the unit (never {@code null}).
+     */
+    public Unit<Q> getUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the number of quantities in this array.
+     *
+     * @return the number of quantities.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the value of the quantity at the given index, in the {@linkplain #getUnit() unit} of this array.
+     *
+     * @param index
+     *            index of the desired quantity.
+     * @return the value at the given index.
+     * @throws IndexOutOfBoundsException
+     *             if the index is negative or not less than {@link #size()}.
+     */
+    public double doubleValue(final int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns a copy of all values, in the {@linkplain #getUnit() unit} of this array.
+     *
+     * @return a new array containing all values.
+     */
+    public double[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * Returns this array converted into another (compatible) unit.
+     *
+     * @param target
+     *            the unit in which the returned values are stated.
+     * @return this array or a new array equivalent to this array stated in the specified unit.
+     * @throws UnconvertibleException
+     *             if the unit of this array cannot be converted to the specified unit.
+     */
+    public QuantityArray<Q> to(final Unit<Q> target) {
+        if (unit.equals(target)) {
+            return this;
+        }
+        final UnitConverter converter = unit.getConverterTo(target);
+        final double[] result = new double[values.length];
+        converter.convert(values, 0, result, 0, values.length);
+        return new QuantityArray<>(target, result);
+    }
+
+    /**
+     * Returns the element-wise sum of this array with the one specified.
+     * The result is stated in the unit of this array.
+     *
+     * @param addend
+     *            the quantities to be added.
+     * @return {@code this + addend}.
+     * @throws IllegalArgumentException
+     *             if the two arrays do not have the same size.
+     * @throws UnconvertibleException
+     *             if the unit of the given array cannot be converted to the unit of this array.
+     */
+    public QuantityArray<Q> add(final QuantityArray<Q> addend) {
+        if (addend.values.length != values.length) {
+            throw new IllegalArgumentException("Mismatched sizes: " + values.length + " and " + addend.values.length);
+        }
+        final UnitConverter toSystem = unit.getConverterTo(unit.getSystemUnit());
+        final double[] result;
+        if (toSystem.isLinear()) {
+            result = addend.to(unit).toArray();
+            for (int i = 0; i < result.length; i++) {
+                result[i] += values[i];
+            }
+        } else {
+            result = toSystemUnit(toSystem);
+            final double[] other = addend.to(unit.getSystemUnit()).values;
+            for (int i = 0; i < result.length; i++) {
+                result[i] += other[i];
+            }
+            toSystem.inverse().convert(result, 0, result, 0, result.length);
+        }
+        return new QuantityArray<>(unit, result);
+    }
+
+    /**
+     * Returns the product of all quantities in this array with the given factor.
+     * The result is stated in the unit of this array.
+     *
+     * @param multiplicand
+     *            the factor by which to multiply all quantities.
+     * @return <code>this * multiplicand</code>.
+     */
+    public QuantityArray<Q> multiply(final double multiplicand) {
+        final UnitConverter toSystem = unit.getConverterTo(unit.getSystemUnit());
+        final boolean linear = toSystem.isLinear();
+        final double[] result = linear ? values.clone() : toSystemUnit(toSystem);
+        for (int i = 0; i < result.length; i++) {
+            result[i] *= multiplicand;
+        }
+        if (!linear) {
+            toSystem.inverse().convert(result, 0, result, 0, result.length);
+        }
+        return new QuantityArray<>(unit, result);
+    }
+
+    /**
+     * Returns the sum of all quantities in this array, in the {@linkplain #getUnit() unit} of this array.
+     * The sum of an empty array is zero.
+     *
+     * @return the sum of all values.
+     */
+    public double sum() {
+        final UnitConverter toSystem = unit.getConverterTo(unit.getSystemUnit());
+        final boolean linear = toSystem.isLinear();
+        double sum = 0;
+        for (final double value : linear ? values : toSystemUnit(toSystem)) {
+            sum += value;
+        }
+        return linear ? sum : toSystem.inverse().convert(sum);
+    }
+
+    /**
+     * Returns the smallest value in this array, in the {@linkplain #getUnit() unit} of this array.
+     * If any value is NaN, the result is NaN.
+     *
+     * @return the minimal value.
+     * @throws NoSuchElementException
+     *             if this array is empty.
+     */
+    public double min() {
+        if (values.length == 0) {
+            throw new NoSuchElementException();
+        }
+        double min = values[0];
+        for (int i = 1; i < values.length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the largest value in this array, in the {@linkplain #getUnit() unit} of this array.
+     * If any value is NaN, the result is NaN.
+     *
+     * @return the maximal value.
+     * @throws NoSuchElementException
+     *             if this array is empty.
+     */
+    public double max() {
+        if (values.length == 0) {
+            throw new NoSuchElementException();
+        }
+        double max = values[0];
+        for (int i = 1; i < values.length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Returns a copy of the values converted to system unit with the given converter.
+     */
+    private double[] toSystemUnit(final UnitConverter toSystem) {
+        final double[] result = new double[values.length];
+        toSystem.convert(values, 0, result, 0, values.length);
+        return result;
+    }
+
+    /**
+     * Compares this array with the given object for equality.
+     * Two arrays are equal if they have equal units and the same values in the same order.
+     *
+     * @param obj
+     *            the object to compare with this array.
+     * @return {@code true} if both objects are equal.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof QuantityArray) {
+            final QuantityArray<?> other = (QuantityArray<?>) obj;
+            return unit.equals(other.unit) && Arrays.equals(values, other.values);
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash code value for this array.
+     *
+     * @return a hash code value.
+     */
+    @Override
+    public int hashCode() {
+        return unit.hashCode() * 31 + Arrays.hashCode(values);
+    }
+
+    /**
+     * Returns a string representation of this array, as the values followed by the unit.
+     *
+     * @return a string representation of this array.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(values) + ' ' + unit;
+    }
+}
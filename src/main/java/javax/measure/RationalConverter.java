@@ -0,0 +1,402 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A converter multiplying values by an exact rational factor <code>dividend / divisor</code>, for example 1/1000 from
+ * millimetre to metre or 1/60 from second to minute. Integer values are converted with {@code long} arithmetic when both
+ * terms of the fraction fit in a {@code long} and no intermediate result overflows; otherwise the conversion falls back to
+ * {@link BigInteger}. The fraction is always kept in lowest terms with a positive divisor.
+ *
+ * <p>
+ * {@link #convert(Number)} returns a value of the same kind as its argument when the result is exact: an integer value gives a
+ * {@link Long} (or a {@link BigInteger} on overflow) when the divisor divides it, and a {@link BigDecimal} otherwise.
+ * Floating-point values are converted as {@code double}.
+ * </p>
+ *
+ * <dl>
+ * <dt><span class="strong">Implementation Requirements:</span></dt>
+ * <dd>This class is immutable and thread-safe.</dd>
+ * </dl>
+ *
+ * @version 1.0, October 18, 2026
+ * @since 2.3
+ */
+public final class RationalConverter implements UnitConverter {
+    /**
+     * Largest magnitude for which every {@code long} is exactly representable as a {@code double}.
+     */
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    /**
+     * The numerator of the factor, in lowest terms.
+     */
+    private final BigInteger dividend;
+
+    /**
+     * The denominator of the factor, in lowest terms. Always positive.
+     */
+    private final BigInteger divisor;
+
+    /**
+     * {@link #dividend} as a {@code long}, valid only if {@link #primitive} is {@code true}.
+     */
+    private final long numerator;
+
+    /**
+     * {@link #divisor} as a {@code long}, valid only if {@link #primitive} is {@code true}.
+     */
+    private final long denominator;
+
+    /**
+     * Whether both terms of the fraction fit in a {@code long}.
+     */
+    private final boolean primitive;
+
+    /**
+     * The factor as a {@code double}, used by {@link #convert(double)}.
+     */
+    private final double factor;
+
+    /**
+     * Creates a new converter from a fraction already in lowest terms with a positive divisor.
+     */
+    private RationalConverter(final BigInteger dividend, final BigInteger divisor) {
+        this.dividend = dividend;
+        this.divisor = divisor;
+        primitive = dividend.bitLength() < Long.SIZE && divisor.bitLength() < Long.SIZE;
+        numerator = dividend.longValue();
+        denominator = divisor.longValue();
+        if (primitive && Math.abs(numerator) <= MAX_EXACT_DOUBLE && denominator <= MAX_EXACT_DOUBLE) {
+            factor = (double) numerator / denominator; // Correctly rounded.
+        } else {
+            factor = new BigDecimal(dividend).divide(new BigDecimal(divisor), MathContext.DECIMAL128).doubleValue();
+        }
+    }
+
+    /**
+     * Returns a converter multiplying values by {@code dividend / divisor}.
+     *
+     * @param dividend
+     *          the numerator of the factor. Shall not be zero.
+     * @param divisor
+     *          the denominator of the factor. Shall not be zero.
+     * @return the converter for the given fraction, reduced to lowest terms.
+     * @throws IllegalArgumentException
+     *           if the dividend or the divisor is zero.
+     */
+    public static RationalConverter of(final long dividend, final long divisor) {
+        return of(BigInteger.valueOf(dividend), BigInteger.valueOf(divisor));
+    }
+
+    /**
+     * Returns a converter multiplying values by {@code dividend / divisor}.
+     *
+     * @param dividend
+     *          the numerator of the factor. Shall not be zero.
+     * @param divisor
+     *          the denominator of the factor. Shall not be zero.
+     * @return the converter for the given fraction, reduced to lowest terms.
+     * @throws IllegalArgumentException
+     *           if the dividend or the divisor is zero.
+     */
+    public static RationalConverter of(BigInteger dividend, BigInteger divisor) {
+        if (dividend.signum() == 0 || divisor.signum() == 0) {
+            throw new IllegalArgumentException("Factor shall be a non-zero finite fraction: " + dividend + '/' + divisor);
+        }
+        final BigInteger gcd = dividend.gcd(divisor);
+        if (!gcd.equals(BigInteger.ONE)) {
+            dividend = dividend.divide(gcd);
+            divisor = divisor.divide(gcd);
+        }
+        if (divisor.signum() < 0) {
+            dividend = dividend.negate();
+            divisor = divisor.negate();
+        }
+        return new RationalConverter(dividend, divisor);
+    }
+
+    /**
+     * Returns the numerator of the factor, in lowest terms.
+     *
+     * @return the dividend of this converter.
+     */
+    public BigInteger getDividend() {
+        return dividend;
+    }
+
+    /**
+     * Returns the denominator of the factor, in lowest terms. This value is always positive.
+     *
+     * @return the divisor of this converter.
+     */
+    public BigInteger getDivisor() {
+        return divisor;
+    }
+
+    @Override
+    public boolean isIdentity() {
+        return primitive && numerator == 1 && denominator == 1;
+    }
+
+    @Override
+    public boolean isLinear() {
+        return true;
+    }
+
+    @Override
+    public RationalConverter inverse() {
+        return (dividend.signum() < 0) ? new RationalConverter(divisor.negate(), dividend.negate()) : new RationalConverter(divisor, dividend);
+    }
+
+    /**
+     * Converts a {@code Number} value. {@link Long}, {@link Integer}, {@link Short}, {@link Byte} and {@link BigInteger} values
+     * are converted exactly, with {@code long} arithmetic when no overflow occurs. {@link BigDecimal} values are converted exactly
+     * when the result has a finite decimal expansion, or rounded to {@link MathContext#DECIMAL128} otherwise. Other values are
+     * converted as {@code double}.
+     *
+     * @param value
+     *          the {@code Number} value to convert.
+     * @return the {@code Number} value after conversion.
+     */
+    @Override
+    public Number convert(final Number value) {
+        Objects.requireNonNull(value);
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            final long v = value.longValue();
+            if (primitive) {
+                final long product;
+                try {
+                    product = Math.multiplyExact(v, numerator);
+                } catch (ArithmeticException e) {
+                    return convert(BigInteger.valueOf(v));
+                }
+                if (product % denominator == 0) {
+                    return product / denominator;
+                }
+                return divide(BigDecimal.valueOf(product), divisor);
+            }
+            return convert(BigInteger.valueOf(v));
+        }
+        if (value instanceof BigInteger) {
+            final BigInteger product = ((BigInteger) value).multiply(dividend);
+            final BigInteger[] qr = product.divideAndRemainder(divisor);
+            if (qr[1].signum() == 0) {
+                return qr[0];
+            }
+            return divide(new BigDecimal(product), divisor);
+        }
+        if (value instanceof BigDecimal) {
+            return divide(((BigDecimal) value).multiply(new BigDecimal(dividend)), divisor);
+        }
+        return convert(value.doubleValue());
+    }
+
+    /**
+     * Returns {@code product / divisor} exactly if the quotient has a finite decimal expansion, or rounded to
+     * {@link MathContext#DECIMAL128} otherwise.
+     */
+    private static BigDecimal divide(final BigDecimal product, final BigInteger divisor) {
+        if (divisor.equals(BigInteger.ONE)) {
+            return product;
+        }
+        final BigDecimal d = new BigDecimal(divisor);
+        try {
+            return product.divide(d);
+        } catch (ArithmeticException e) {
+            return product.divide(d, MathContext.DECIMAL128); // Non-terminating decimal expansion.
+        }
+    }
+
+    /**
+     * Converts a {@code long} value with {@code long} arithmetic, falling back to {@link BigInteger} only when the intermediate
+     * product overflows.
+     *
+     * @param value
+     *          the numeric value to convert.
+     * @param rounding
+     *          how to round a result which is not an integer.
+     * @return the converted value, rounded to an integer.
+     * @throws ArithmeticException
+     *           if the result does not fit in a {@code long}, or is not an integer while {@code rounding} is
+     *           {@link RoundingMode#UNNECESSARY}.
+     */
+    @Override
+    public long convert(final long value, final RoundingMode rounding) {
+        Objects.requireNonNull(rounding);
+        if (primitive) {
+            final long product;
+            try {
+                product = Math.multiplyExact(value, numerator);
+            } catch (ArithmeticException e) {
+                // Intermediate overflow: the result may still fit, continue below.
+                return new BigDecimal(BigInteger.valueOf(value).multiply(dividend)).divide(new BigDecimal(divisor), 0, rounding).longValueExact();
+            }
+            return divide(product, denominator, rounding);
+        }
+        return new BigDecimal(BigInteger.valueOf(value).multiply(dividend)).divide(new BigDecimal(divisor), 0, rounding).longValueExact();
+    }
+
+    /**
+     * Returns {@code dividend / divisor} rounded with the given mode, using only {@code long} arithmetic.
+     *
+     * @param dividend
+     *          the value to divide.
+     * @param divisor
+     *          the positive value to divide by.
+     * @param rounding
+     *          how to round a quotient which is not an integer.
+     * @return the rounded quotient.
+     * @throws ArithmeticException
+     *           if the quotient is not an integer while {@code rounding} is {@link RoundingMode#UNNECESSARY}.
+     */
+    static long divide(final long dividend, final long divisor, final RoundingMode rounding) {
+        final long quotient = dividend / divisor;
+        final long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        final boolean up; // Whether to round away from zero.
+        switch (rounding) {
+        case UP:
+            up = true;
+            break;
+        case DOWN:
+            up = false;
+            break;
+        case CEILING:
+            up = dividend > 0;
+            break;
+        case FLOOR:
+            up = dividend < 0;
+            break;
+        case UNNECESSARY:
+            throw new ArithmeticException("Rounding necessary: " + dividend + '/' + divisor);
+        default: // HALF_UP, HALF_DOWN, HALF_EVEN.
+            final long half = Math.abs(remainder);
+            final int cmp = Long.compare(half, divisor - half); // Avoids the overflow of 2 * half.
+            if (cmp != 0) {
+                up = cmp > 0;
+            } else {
+                up = rounding == RoundingMode.HALF_UP || (rounding == RoundingMode.HALF_EVEN && (quotient & 1) != 0);
+            }
+        }
+        return up ? quotient + Long.signum(dividend) : quotient; // Can not overflow since divisor >= 2.
+    }
+
+    @Override
+    public double convert(final double value) {
+        if (primitive && Math.abs(numerator) <= MAX_EXACT_DOUBLE && denominator <= MAX_EXACT_DOUBLE) {
+            if (denominator == 1) {
+                return value * numerator;
+            }
+            if (numerator == 1) {
+                return value / denominator;
+            }
+        }
+        return value * factor;
+    }
+
+    /**
+     * Returns the concatenation of this converter with the given one. Two rational converters, or a rational converter
+     * and a converter between {@linkplain MetricPrefix#getConverterTo(MetricPrefix) prefixes}, are combined into a single
+     * rational converter by multiplying their factors exactly.
+     *
+     * @param converter
+     *          the converter to apply before this converter.
+     * @return the concatenation of this converter with the other converter.
+     */
+    @Override
+    public UnitConverter concatenate(final UnitConverter converter) {
+        if (converter instanceof RationalConverter) {
+            final RationalConverter other = (RationalConverter) converter;
+            return of(dividend.multiply(other.dividend), divisor.multiply(other.divisor));
+        }
+        if (converter instanceof PrefixConverter) {
+            return concatenate(((PrefixConverter) converter).toRational());
+        }
+        if (converter.isIdentity()) {
+            return this;
+        }
+        if (isIdentity()) {
+            return converter;
+        }
+        return new ConcatenatedConverter(this, converter);
+    }
+
+    @Override
+    public List<RationalConverter> getConversionSteps() {
+        return Collections.singletonList(this);
+    }
+
+    /**
+     * Compares this converter with the given object for equality.
+     *
+     * @param obj
+     *          the object to compare with this converter.
+     * @return {@code true} if the given object is a rational converter with the same factor.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof RationalConverter) {
+            final RationalConverter other = (RationalConverter) obj;
+            return dividend.equals(other.dividend) && divisor.equals(other.divisor);
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash code value for this converter.
+     *
+     * @return a hash code value.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * dividend.hashCode() + divisor.hashCode();
+    }
+
+    /**
+     * Returns the factor of this converter as a fraction.
+     *
+     * @return a string representation of this converter.
+     */
+    @Override
+    public String toString() {
+        return "RationalConverter(" + dividend + '/' + divisor + ')';
+    }
+}
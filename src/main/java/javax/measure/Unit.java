@@ -67,7 +67,7 @@ import java.util.Map;
  * @author <a href="mailto:steve@unidata.ucar.edu">Steve Emmerson</a>
  * @author <a href="mailto:martin.desruisseaux@geomatys.com">Martin Desruisseaux</a>
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.5, October 3, 2024
+ * @version 2.6, October 18, 2026
  * @since 1.0
  *
  * @see <a href="http://en.wikipedia.org/wiki/Units_of_measurement">Wikipedia: Units of measurement</a>
@@ -122,6 +122,13 @@ public interface Unit<Q extends Quantity<Q>> {
      *     assert isAngularSpeed(REVOLUTION.divide(MINUTE)); // Returns true.<br><br>
      * </code>
      *
+     * <dl>
+     * <dt><span class="strong">Implementation Requirements:</span></dt><dd>Since units are immutable, this method shall return an equal unit on
+     *          every invocation. Implementations deriving the system unit from the unit structure should compute it at most once and reuse
+     *          the result, for example in a {@code final} field assigned at construction time or in a {@code volatile} field assigned on
+     *          first use, so the result is safely published to all threads.</dd>
+     * </dl>
+     *
      * @return the system unit this unit is derived from, or {@code this} if this unit is a system unit.
      */
     Unit<Q> getSystemUnit();
@@ -130,6 +137,12 @@ public interface Unit<Q extends Quantity<Q>> {
      * Returns the base units and their exponent whose product is this unit, or {@code null} if this unit is a base unit (not a product of existing
      * units).
      *
+     * <dl>
+     * <dt><span class="strong">Implementation Requirements:</span></dt><dd>The returned map shall be unmodifiable, so the same instance can be
+     *          returned on every invocation and shared by all callers. Implementations should compute it at most once and publish it safely,
+     *          as described in {@link #getSystemUnit()}.</dd>
+     * </dl>
+     *
      * @return the base units and their exponent making up this unit.
      */
     Map<? extends Unit<?>, Integer> getBaseUnits();
@@ -152,6 +165,25 @@ public interface Unit<Q extends Quantity<Q>> {
      */
     boolean isCompatible(Unit<?> that);
 
+    /**
+     * Returns the {@linkplain Dimension#getFingerprint() fingerprint} of the dimension of this unit.
+     * The fingerprint is a hint for dimension equality only: units having different fingerprints have different
+     * dimensions, and units having equal fingerprints which are {@linkplain DimensionVector#isDefined(long) defined
+     * exponent vectors} have equal dimensions. Whether units of different dimensions are {@linkplain #isCompatible(Unit)
+     * compatible} depends on the dimensional model of the implementation, so only implementations whose
+     * {@code isCompatible} is based on dimension equality may use the fingerprint to reject incompatible units.
+     * <p>
+     * The default implementation delegates to {@code getDimension().getFingerprint()}. Implementations are encouraged
+     * to precompute the value, since units are immutable.
+     * </p>
+     *
+     * @return the fingerprint of the dimension of this unit.
+     * @since 2.3
+     */
+    default long getDimensionFingerprint() {
+        return getDimension().getFingerprint();
+    }
+
     /**
      * Indicates if this unit represents the same quantity than the given unit, ignoring name and symbols.
      * Two units are equivalent if the {@linkplain #getConverterTo(Unit) conversion} between them is identity.
@@ -425,6 +457,12 @@ public interface Unit<Q extends Quantity<Q>> {
     /**
      * Returns a new unit equal to this unit prefixed by the specified {@code prefix}.
      *
+     * <p>
+     * Implementations which retain the prefix of the returned unit may convert between two prefixed forms of the same unit with
+     * {@link MetricPrefix#getConverterTo(MetricPrefix)} or {@link BinaryPrefix#getConverterTo(BinaryPrefix)}, without resolving
+     * the system unit.
+     * </p>
+     *
      * @param prefix
      *          the prefix to apply on this unit.
      * @return the unit with the given prefix applied.
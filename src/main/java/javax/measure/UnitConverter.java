@@ -29,7 +29,17 @@
  */
 package javax.measure;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * A converter of numeric values between different units.
@@ -44,7 +54,7 @@ import java.util.List;
  *         Desruisseaux</a>
  * @author <a href="mailto:thodoris.bais@gmail.com">Thodoris Bais</a>
  * @author <a href="mailto:ahuber@apache.org">Andi Huber</a>
- * @version 1.5, October 3, 2024
+ * @version 1.6, October 18, 2026
  * @since 1.0
  *
  * @see Unit
@@ -110,7 +120,8 @@ public interface UnitConverter {
     UnitConverter inverse();
 
     /**
-     * Converts a {@code Number} value.
+     * Converts a {@code Number} value. Converters with an exact factor, such as {@link RationalConverter}, should preserve the
+     * exactness of integer and decimal values instead of converting them as {@code double}.
      *
      * @param value
      *          the {@code Number} value to convert.
@@ -127,10 +138,212 @@ public interface UnitConverter {
      */
     double convert(double value);
 
+    /**
+     * Converts a {@code long} value to a {@code long} result, rounding with the given mode when the exact result is not an integer.
+     * This method is intended for integer-valued quantities such as counts, bytes or milliseconds, which would lose precision
+     * as {@code double} beyond 2<sup>53</sup> and would be boxed by {@link #convert(Number)}.
+     *
+     * <dl>
+     * <dt><span class="strong">Implementation Note:</span></dt><dd>The default implementation rounds the result of
+     *          {@link #convert(Number)} applied on a {@link Long}, so it is exact only if that method is. {@link RationalConverter}
+     *          overrides it with {@code long} arithmetic.</dd>
+     * </dl>
+     *
+     * @param value
+     *          the numeric value to convert.
+     * @param rounding
+     *          how to round a result which is not an integer. {@link RoundingMode#UNNECESSARY} requires an exact result.
+     * @return the converted value, rounded to an integer.
+     * @throws ArithmeticException
+     *           if the result does not fit in a {@code long}, is not finite, or is not an integer while {@code rounding} is
+     *           {@link RoundingMode#UNNECESSARY}.
+     * @since 2.3
+     * @see #convertExact(long)
+     */
+    default long convert(long value, RoundingMode rounding) {
+        Objects.requireNonNull(rounding);
+        final Number result = convert(Long.valueOf(value));
+        final BigDecimal decimal;
+        if (result instanceof Long || result instanceof Integer || result instanceof Short || result instanceof Byte) {
+            return result.longValue();
+        } else if (result instanceof BigDecimal) {
+            decimal = (BigDecimal) result;
+        } else if (result instanceof BigInteger) {
+            decimal = new BigDecimal((BigInteger) result);
+        } else {
+            final double d = result.doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                throw new ArithmeticException("Not a finite value: " + d);
+            }
+            decimal = new BigDecimal(d);
+        }
+        return decimal.setScale(0, rounding).longValueExact();
+    }
+
+    /**
+     * Converts a {@code long} value to a {@code long} result, requiring the conversion to be exact. This is a shortcut for
+     * {@code convert(value, RoundingMode.UNNECESSARY)}, following the convention of {@link Math#multiplyExact(long, long)}.
+     *
+     * @param value
+     *          the numeric value to convert.
+     * @return the converted value.
+     * @throws ArithmeticException
+     *           if the result is not an integer or does not fit in a {@code long}.
+     * @since 2.3
+     */
+    default long convertExact(long value) {
+        return convert(value, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Converts a sequence of {@code double} values. This method is equivalent to the following loop:
+     *
+     * <pre>
+     * for (int i = 0; i &lt; len; i++) {
+     *     dst[dstOff + i] = convert(src[srcOff + i]);
+     * }
+     * </pre>
+     *
+     * <p>
+     * The source and destination may be the same array. In such case, the conversion is done in place if {@code srcOff == dstOff}, while
+     * the result is unspecified for other overlapping regions.
+     * </p>
+     *
+     * <dl>
+     * <dt><span class="strong">Implementation Note:</span></dt><dd>The default implementation invokes {@link #convert(double)} for each value.
+     *          Implementations are encouraged to override this method with a loop free of virtual calls, for example by applying
+     *          their scale factor directly.</dd>
+     * </dl>
+     *
+     * @param src
+     *          the array of values to convert.
+     * @param srcOff
+     *          index of the first value to convert in the source array.
+     * @param dst
+     *          the array where to store the converted values.
+     * @param dstOff
+     *          index where to store the first converted value in the destination array.
+     * @param len
+     *          the number of values to convert.
+     * @throws NullPointerException
+     *           if {@code src} or {@code dst} is {@code null}.
+     * @throws IndexOutOfBoundsException
+     *           if a region to read or write is outside the bounds of its array.
+     * @since 2.3
+     */
+    default void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        if (len < 0 || srcOff < 0 || dstOff < 0 || srcOff > src.length - len || dstOff > dst.length - len) {
+            throw new IndexOutOfBoundsException("Invalid region of " + len + " values at source offset " + srcOff
+                    + " and destination offset " + dstOff);
+        }
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = convert(src[srcOff + i]);
+        }
+    }
+
+    /**
+     * Converts the values remaining in a source buffer and stores the results in a destination buffer. This method transfers
+     * <var>n</var> = {@code src.remaining()} values, starting at the current position of each buffer, and increments the positions of both buffers
+     * by <var>n</var>. It can be used on {@linkplain DoubleBuffer#allocateDirect(int) direct} or memory-mapped buffers without copying the values
+     * on the Java heap.
+     *
+     * <p>
+     * The source and destination may be the same buffer, in which case the conversion is done in place.
+     * </p>
+     *
+     * <dl>
+     * <dt><span class="strong">Implementation Note:</span></dt><dd>The default implementation delegates to
+     *          {@link #convert(double[], int, double[], int, int)} when both buffers are backed by accessible arrays,
+     *          and otherwise invokes {@link #convert(double)} for each value using absolute {@code get} and {@code put} operations.</dd>
+     * </dl>
+     *
+     * @param src
+     *          the buffer from which to read the values to convert.
+     * @param dst
+     *          the buffer where to write the converted values.
+     * @throws BufferOverflowException
+     *           if there is insufficient space in the destination buffer for the remaining values in the source buffer.
+     * @throws ReadOnlyBufferException
+     *           if the destination buffer is read-only.
+     * @since 2.3
+     */
+    default void convert(DoubleBuffer src, DoubleBuffer dst) {
+        if (dst.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        final int len = src.remaining();
+        if (dst.remaining() < len) {
+            throw new BufferOverflowException();
+        }
+        final int srcPos = src.position();
+        final int dstPos = dst.position();
+        if (src.hasArray() && dst.hasArray()) {
+            convert(src.array(), src.arrayOffset() + srcPos, dst.array(), dst.arrayOffset() + dstPos, len);
+        } else {
+            for (int i = 0; i < len; i++) {
+                dst.put(dstPos + i, convert(src.get(srcPos + i)));
+            }
+        }
+        src.position(srcPos + len);
+        dst.position(dstPos + len);
+    }
+
+    /**
+     * Returns a method handle of type {@code (double)double} performing the same conversion as {@link #convert(double)}. For converters made of
+     * many {@linkplain #getConversionSteps() conversion steps}, the returned handle chains the handles of all steps into a single function.
+     * When stored in a {@code static final} field, such handle allows the JIT compiler to inline the whole conversion like hand-written arithmetic.
+     * For example:
+     *
+     * <pre>
+     * static final MethodHandle FEET_TO_METRES = FOOT.getConverterTo(METRE).asMethodHandle();
+     * ...
+     * double metres = (double) FEET_TO_METRES.invokeExact(feet);
+     * </pre>
+     *
+     * <dl>
+     * <dt><span class="strong">Implementation Note:</span></dt><dd>The default implementation returns
+     *          {@link MethodHandles#identity(Class)} for identity converters, a handle bound to {@link #convert(double)} for fundamental
+     *          converters, and otherwise the composition of the handles of each conversion step. Fundamental converters are encouraged to
+     *          override this method with a handle performing their arithmetic directly, for example with a scale factor inserted as a
+     *          constant argument.</dd>
+     * </dl>
+     *
+     * @return a method handle of type {@code (double)double} equivalent to this converter.
+     * @since 2.3
+     */
+    default MethodHandle asMethodHandle() {
+        if (isIdentity()) {
+            return MethodHandles.identity(double.class);
+        }
+        final List<? extends UnitConverter> steps = getConversionSteps();
+        if (steps.size() <= 1) {
+            try {
+                return MethodHandles.publicLookup()
+                        .findVirtual(UnitConverter.class, "convert", MethodType.methodType(double.class, double.class)).bindTo(this);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // Should never happen since convert(double) is a public method of this public interface.
+                throw new MeasurementError(e);
+            }
+        }
+        // Steps are listed in the order of concatenation, so the last step is applied first.
+        MethodHandle handle = steps.get(steps.size() - 1).asMethodHandle();
+        for (int i = steps.size() - 2; i >= 0; i--) {
+            handle = MethodHandles.filterReturnValue(handle, steps.get(i).asMethodHandle());
+        }
+        return handle;
+    }
+
     /**
      * Concatenates this converter with another converter. The resulting converter is equivalent to first converting by the specified converter (right
      * converter), and then converting by this converter (left converter).
      *
+     * <p>
+     * Implementations are encouraged to return a simplified converter rather than a tree of nested converters: identity steps can be omitted, and
+     * consecutive {@linkplain #isLinear() linear} steps can be combined into a single step since a linear converter {@code A} is fully determined
+     * by its scale factor ({@code A(u) == u * A(1)}). This way, the cost of {@link #convert(double)} depends on the number of non-linear steps
+     * only, not on the depth of the concatenation.
+     * </p>
+     *
      * @param converter
      *          the other converter to concatenate with this converter.
      * @return the concatenation of this converter with the other converter.
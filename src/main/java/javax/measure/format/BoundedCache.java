@@ -0,0 +1,155 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.format;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A concurrent map retaining at most a given number of entries. When the capacity is exceeded,
+ * the entries which have not been requested recently are evicted.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of cached values.
+ *
+ * @version 1.0, October 18, 2026
+ * @since 2.3
+ * @see CachedUnitFormat
+ */
+final class BoundedCache<K, V> {
+    /**
+     * The cached values. Each entry records whether it has been requested since the last eviction.
+     */
+    private final Map<K, Entry<V>> entries;
+
+    /**
+     * The maximum number of entries to retain.
+     */
+    private final int capacity;
+
+    /**
+     * Whether a thread is currently evicting entries. Used for letting a single thread evict at a time.
+     */
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    /**
+     * Creates a new cache retaining at most the given number of entries.
+     * The capacity shall have been validated by the caller.
+     */
+    BoundedCache(final int capacity) {
+        this.capacity = capacity;
+        entries = new ConcurrentHashMap<>(Math.min(capacity, 256));
+    }
+
+    /**
+     * Returns the value cached for the given key, or {@code null} if none.
+     */
+    V get(final K key) {
+        final Entry<V> entry = entries.get(key);
+        return (entry != null) ? entry.get() : null;
+    }
+
+    /**
+     * Caches the given value, evicting old entries if the capacity is exceeded.
+     *
+     * @return the cached value, which may have been computed concurrently by another thread.
+     */
+    V put(final K key, final V value) {
+        final Entry<V> previous = entries.putIfAbsent(key, new Entry<>(value));
+        if (previous != null) {
+            return previous.get();
+        }
+        if (entries.size() > capacity) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * Removes entries until the cache size is back to three quarters of its capacity. This is a "second chance"
+     * approximation of a least-recently-used policy: an entry requested since the last sweep is spared once.
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return; // Another thread is already evicting.
+        }
+        try {
+            final int target = capacity - (capacity >>> 2);
+            for (int pass = 0; pass < 2 && entries.size() > target; pass++) {
+                final Iterator<Entry<V>> it = entries.values().iterator();
+                while (it.hasNext() && entries.size() > target) {
+                    final Entry<V> entry = it.next();
+                    if (entry.recent) {
+                        entry.recent = false;
+                    } else {
+                        it.remove();
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * A cached value together with its "recently used" flag.
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private volatile boolean recent;
+
+        Entry(final V value) {
+            this.value = value;
+        }
+
+        V get() {
+            if (!recent) {
+                recent = true; // Avoid a volatile write on every hit.
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.format;
+
+import java.io.IOException;
+import java.text.ParsePosition;
+import java.util.Objects;
+
+import javax.measure.Unit;
+
+/**
+ * A {@link UnitFormat} which caches the results of another format.
+ * Parsing a unit string already seen is resolved by a single map lookup instead of tokenizing the string again,
+ * and returns the same {@link Unit} instance as the previous parsing of that string. This allows identity
+ * comparisons of units parsed from identical strings, as long as they are still in the cache.
+ * Likewise, formatting a unit already seen appends a precomputed string instead of building the symbol again.
+ *
+ * <p>
+ * The cache is bounded: when the number of cached entries exceeds the capacity, the entries which have not been
+ * requested recently are evicted. All cached entries are discarded when a new {@linkplain #label(Unit, String) label}
+ * is attached, since labels may change the result of parsing and formatting.
+ * </p>
+ *
+ * <dl>
+ * <dt><span class="strong">Implementation Requirements</span></dt><dd>The cache itself is thread-safe, but cache misses
+ *          are delegated to the wrapped format. This class is therefore safe for concurrent use if the wrapped format is,
+ *          and applies labels atomically as specified by {@link UnitFormat} in that case.</dd>
+ * </dl>
+ *
+ * @version 1.0, October 18, 2026
+ * @since 2.3
+ */
+public class CachedUnitFormat implements UnitFormat {
+    /**
+     * The capacity of caches created by {@link #CachedUnitFormat(UnitFormat)}.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The format on which to delegate the operations not resolved by the cache.
+     */
+    private final UnitFormat format;
+
+    /**
+     * The maximum number of entries retained in each cache.
+     */
+    private final int capacity;
+
+    /**
+     * The units parsed from the strings used as keys.
+     * This cache is replaced by a new instance when cleared, so that a value computed
+     * before the clear is stored only in the discarded instance.
+     */
+    private volatile BoundedCache<String, Unit<?>> parsed;
+
+    /**
+     * The strings formatted from the units used as keys.
+     * This cache is replaced by a new instance when cleared, for the same reason as {@link #parsed}.
+     */
+    private volatile BoundedCache<Unit<?>, String> formatted;
+
+    /**
+     * Creates a new cache of the given format with the {@linkplain #DEFAULT_CAPACITY default capacity}.
+     *
+     * @param format
+     *            the format to cache.
+     * @throws NullPointerException
+     *             if {@code format} is {@code null}.
+     */
+    public CachedUnitFormat(final UnitFormat format) {
+        this(format, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new cache of the given format retaining at most the given number of entries.
+     *
+     * @param format
+     *            the format to cache.
+     * @param capacity
+     *            the maximum number of entries to retain.
+     * @throws NullPointerException
+     *             if {@code format} is {@code null}.
+     * @throws IllegalArgumentException
+     *             if {@code capacity} is not positive.
+     */
+    public CachedUnitFormat(final UnitFormat format, final int capacity) {
+        this.format = Objects.requireNonNull(format, "format");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        parsed = new BoundedCache<>(capacity);
+        formatted = new BoundedCache<>(capacity);
+    }
+
+    /**
+     * Formats the specified unit, appending the cached string if the same unit has been formatted before.
+     *
+     * @param unit
+     *            the {@link Unit} to format, not {@code null}
+     * @param appendable
+     *            the appendable destination.
+     * @return the appendable destination passed in with formatted text appended.
+     * @throws IOException
+     *             if an error occurs while writing to the destination.
+     */
+    @Override
+    public Appendable format(final Unit<?> unit, final Appendable appendable) throws IOException {
+        return appendable.append(format(unit));
+    }
+
+    /**
+     * Formats the specified unit, returning the cached string if the same unit has been formatted before.
+     * Formatting failures are not cached.
+     *
+     * @param unit
+     *            the {@link Unit} to format, not {@code null}
+     * @return the string representation using the settings of the wrapped format.
+     */
+    @Override
+    public String format(final Unit<?> unit) {
+        final BoundedCache<Unit<?>, String> cache = formatted;
+        final String text = cache.get(Objects.requireNonNull(unit, "unit"));
+        if (text != null) {
+            return text;
+        }
+        final String result = format.format(unit);
+        return (result != null) ? cache.put(unit, result) : null;
+    }
+
+    /**
+     * Attaches a label to the specified unit in the wrapped format, then discards all cached entries.
+     * A {@code format} or {@code parse} operation running concurrently with this method may return a result
+     * computed before the label change, but that result is not retained in the cache.
+     *
+     * @param unit
+     *            the unit being labeled.
+     * @param label
+     *            the new label for this unit.
+     * @throws IllegalArgumentException
+     *             if the label is not a valid identifier.
+     * @throws UnsupportedOperationException
+     *             if the {@code label} operation is not supported by the wrapped format.
+     */
+    @Override
+    public void label(final Unit<?> unit, final String label) {
+        format.label(unit, label);
+        clear();
+    }
+
+    /**
+     * Returns whether the wrapped format depends on a {@code Locale} to perform its tasks.
+     *
+     * @return whether the wrapped format depends on the locale.
+     */
+    @Override
+    public boolean isLocaleSensitive() {
+        return format.isLocaleSensitive();
+    }
+
+    /**
+     * Parses a portion of the specified {@code CharSequence} by delegating to the wrapped format.
+     * This method does not use the cache since the number of characters consumed is known only after parsing.
+     *
+     * @param csq
+     *            the {@code CharSequence} to parse.
+     * @param pos
+     *            a ParsePosition object holding the current parsing index and error parsing index information.
+     * @return the unit parsed from the specified character sub-sequence.
+     * @throws MeasurementParseException
+     *             if any problem occurs while parsing the specified character sequence (e.g. illegal syntax).
+     */
+    @Override
+    public Unit<?> parse(final CharSequence csq, final ParsePosition pos) throws MeasurementParseException {
+        return format.parse(csq, pos);
+    }
+
+    /**
+     * Parses the text into a unit, returning the cached unit if the same text has been parsed before.
+     * Parsing failures are not cached.
+     *
+     * @param csq
+     *            the {@code CharSequence} to parse.
+     * @return the unit parsed from the specified character sequence.
+     * @throws MeasurementParseException
+     *             if any problem occurs while parsing the specified character sequence (e.g. illegal syntax).
+     */
+    @Override
+    public Unit<?> parse(final CharSequence csq) throws MeasurementParseException {
+        final BoundedCache<String, Unit<?>> cache = parsed;
+        final String key = csq.toString();
+        final Unit<?> unit = cache.get(key);
+        if (unit != null) {
+            return unit;
+        }
+        final Unit<?> result = format.parse(key);
+        return (result != null) ? cache.put(key, result) : null;
+    }
+
+    /**
+     * Returns an immutable snapshot of this format, caching a snapshot of the wrapped format.
+     * The cached entries are not copied.
+     *
+     * @return an immutable and thread-safe snapshot of this format.
+     * @throws UnsupportedOperationException
+     *             if the wrapped format cannot provide snapshots.
+     */
+    @Override
+    public UnitFormat snapshot() {
+        final UnitFormat frozen = format.snapshot();
+        return (frozen == format) ? this : new CachedUnitFormat(frozen, capacity);
+    }
+
+    /**
+     * Discards all cached entries.
+     */
+    public void clear() {
+        parsed = new BoundedCache<>(capacity);
+        formatted = new BoundedCache<>(capacity);
+    }
+
+    /**
+     * Returns the maximum number of entries retained in each cache.
+     *
+     * @return the capacity of this cache.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns a string representation of this format for debugging purpose.
+     *
+     * @return a string representation of this format.
+     */
+    @Override
+    public String toString() {
+        return "CachedUnitFormat[" + format + ']';
+    }
+}
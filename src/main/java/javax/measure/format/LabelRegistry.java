@@ -0,0 +1,179 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.format;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.measure.Unit;
+
+/**
+ * A thread-safe registry of labels attached to units, for use by {@link UnitFormat} implementations.
+ * Each unit has at most one label and each label identifies at most one unit: attaching a label to a unit
+ * replaces the previous label of that unit, and detaches the label from any other unit.
+ *
+ * <p>
+ * The registry is copy-on-write: each {@link #label(Unit, String) label} operation publishes a new immutable
+ * snapshot of all labels, and lookups read the latest snapshot without locking. This makes lookups as fast as
+ * a {@link HashMap} lookup while labels may be added concurrently, at the cost of copying all labels on each
+ * modification. This trade-off is appropriate for labels, which are typically defined once and read many times.
+ * </p>
+ *
+ * <dl>
+ * <dt><span class="strong">Implementation Requirements</span></dt><dd>This class is thread-safe and lock-free.
+ *          A label operation is atomic: concurrent lookups see either all or none of its effects.</dd>
+ * </dl>
+ *
+ * @version 1.0, October 18, 2026
+ * @since 2.3
+ * @see UnitFormat#label(Unit, String)
+ */
+public final class LabelRegistry {
+    /**
+     * The current snapshot of labels. Snapshots are never modified after publication.
+     */
+    private final AtomicReference<Snapshot> snapshot;
+
+    /**
+     * Creates an empty registry.
+     */
+    public LabelRegistry() {
+        snapshot = new AtomicReference<>(new Snapshot(new HashMap<>(), new HashMap<>()));
+    }
+
+    /**
+     * Creates a registry initialized to the given snapshot.
+     */
+    private LabelRegistry(final Snapshot initial) {
+        snapshot = new AtomicReference<>(initial);
+    }
+
+    /**
+     * Attaches the given label to the given unit. The previous label of the unit, if any, is discarded.
+     * If the label was attached to another unit, it is detached from that unit.
+     *
+     * @param unit
+     *            the unit being labeled.
+     * @param label
+     *            the new label for this unit.
+     * @throws NullPointerException
+     *             if any argument is {@code null}.
+     */
+    public void label(final Unit<?> unit, final String label) {
+        Objects.requireNonNull(unit, "unit");
+        Objects.requireNonNull(label, "label");
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = snapshot.get();
+            if (label.equals(current.labels.get(unit)) && unit.equals(current.units.get(label))) {
+                return;
+            }
+            final Map<Unit<?>, String> labels = new HashMap<>(current.labels);
+            final Map<String, Unit<?>> units = new HashMap<>(current.units);
+            final String oldLabel = labels.put(unit, label);
+            if (oldLabel != null) {
+                units.remove(oldLabel);
+            }
+            final Unit<?> oldUnit = units.put(label, unit);
+            if (oldUnit != null && !oldUnit.equals(unit)) {
+                labels.remove(oldUnit);
+            }
+            next = new Snapshot(labels, units);
+        } while (!snapshot.compareAndSet(current, next));
+    }
+
+    /**
+     * Returns the label attached to the given unit.
+     *
+     * @param unit
+     *            the unit for which to get the label.
+     * @return the label of the given unit, or {@code null} if none.
+     */
+    public String getLabel(final Unit<?> unit) {
+        return snapshot.get().labels.get(unit);
+    }
+
+    /**
+     * Returns the unit to which the given label is attached.
+     *
+     * @param label
+     *            the label for which to get the unit.
+     * @return the unit having the given label, or {@code null} if none.
+     */
+    public Unit<?> getUnit(final CharSequence label) {
+        return snapshot.get().units.get(label.toString());
+    }
+
+    /**
+     * Returns the number of labeled units.
+     *
+     * @return the number of labels in this registry.
+     */
+    public int size() {
+        return snapshot.get().labels.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the labels as they are at the time of this method invocation.
+     * The returned map is not affected by subsequent changes in this registry.
+     *
+     * @return the labels of all units in this registry.
+     */
+    public Map<Unit<?>, String> asMap() {
+        return Collections.unmodifiableMap(snapshot.get().labels);
+    }
+
+    /**
+     * Returns a new registry initialized to the current labels of this registry.
+     * Subsequent changes in either registry do not affect the other one.
+     *
+     * @return a copy of this registry.
+     */
+    public LabelRegistry copy() {
+        return new LabelRegistry(snapshot.get());
+    }
+
+    /**
+     * An immutable state of the registry. The two maps are inverse of each other.
+     */
+    private static final class Snapshot {
+        final Map<Unit<?>, String> labels;
+        final Map<String, Unit<?>> units;
+
+        Snapshot(final Map<Unit<?>, String> labels, final Map<String, Unit<?>> units) {
+            this.labels = labels;
+            this.units = units;
+        }
+    }
+}
@@ -31,8 +31,11 @@ package javax.measure.format;
 
 import java.io.IOException;
 import java.text.ParsePosition;
+import java.util.function.Consumer;
+import java.util.function.ObjDoubleConsumer;
 
 import javax.measure.Quantity;
+import javax.measure.Unit;
 
 /**
  * Formats instances of {@link Quantity}.
@@ -46,7 +49,7 @@ import javax.measure.Quantity;
  * @author <a href="mailto:werner@uom.technology">Werner Keil</a>
  * @author <a href="mailto:thodoris.bais@gmail.com">Thodoris Bais</a>
  *
- * @version 1.1, 20 May, 2023
+ * @version 1.2, October 18, 2026
  * @since 2.0
  *
  * @see Quantity
@@ -89,6 +92,31 @@ public interface QuantityFormat {
      */
     public Quantity<?> parse(CharSequence csq, ParsePosition pos) throws MeasurementParseException;
 
+    /**
+     * Parses a portion of the specified {@code CharSequence} from the specified position and gives the unit and the numerical value
+     * to the specified consumer, without creating a {@link Quantity}.
+     * If parsing succeeds, then the index of the {@code pos} argument is updated to the index after the last character used.
+     * <p>
+     * The default implementation delegates to {@link #parse(CharSequence, ParsePosition)}. Implementations are encouraged to override
+     * this method for parsing the value directly from the characters, without allocating {@link Number}, {@code Quantity} or
+     * intermediate strings, in order to make bulk ingestion bounded by character scanning.
+     * </p>
+     *
+     * @param csq
+     *          the {@code CharSequence} to parse.
+     * @param pos
+     *          a ParsePosition object holding the current parsing index and error parsing index information as described above.
+     * @param action
+     *          the consumer to invoke with the parsed unit and value.
+     * @throws MeasurementParseException
+     *           if any problem occurs while parsing the specified character sequence (e.g. illegal syntax).
+     * @since 2.3
+     */
+    default void parse(CharSequence csq, ParsePosition pos, ObjDoubleConsumer<? super Unit<?>> action) throws MeasurementParseException {
+        final Quantity<?> quantity = parse(csq, pos);
+        action.accept(quantity.getUnit(), quantity.doubleValue());
+    }
+
     /**
      * Parses the specified {@code CharSequence} to produce a {@link Quantity}.
      * <p>
@@ -104,6 +132,34 @@ public interface QuantityFormat {
      */
     public Quantity<?> parse(CharSequence csq) throws MeasurementParseException;
 
+    /**
+     * Parses all quantities read from the specified source, one quantity per line, and gives them to the specified consumer as they are parsed.
+     * Lines are terminated by {@code '\n'}, {@code '\r'} or {@code "\r\n"}. Blank lines are ignored, and leading or trailing whitespaces on a
+     * line are allowed. Any other character remaining on a line after the quantity causes an exception to be thrown.
+     * <p>
+     * Characters are read in blocks into a reusable buffer, and each line is given to {@link #parse(CharSequence, ParsePosition)} as a view over
+     * that buffer with the same {@code ParsePosition} instance, so the input does not need to be materialized as a string. Data from a
+     * {@link java.nio.channels.ReadableByteChannel} can be parsed by wrapping the channel with
+     * {@link java.nio.channels.Channels#newReader(java.nio.channels.ReadableByteChannel, String)}.
+     * </p>
+     * <p>
+     * This method does not close the source.
+     * </p>
+     *
+     * @param source
+     *          the source of characters to parse, for example a {@link java.io.Reader}.
+     * @param action
+     *          the consumer to invoke for each parsed quantity.
+     * @throws IOException
+     *           if an I/O exception occurs while reading the source.
+     * @throws MeasurementParseException
+     *           if a line cannot be parsed. The parsed string and the error position of the exception are relative to that line.
+     * @since 2.3
+     */
+    default void parse(Readable source, Consumer<? super Quantity<?>> action) throws IOException, MeasurementParseException {
+        new QuantityLineParser(this, source).forEach(action);
+    }
+
     /**
      * Returns {@code true} if this {@link QuantityFormat} depends on a {@code Locale} to perform its tasks.
      * <p>
@@ -115,4 +171,23 @@ public interface QuantityFormat {
     default boolean isLocaleSensitive() {
         return false;
     }
+
+    /**
+     * Returns an immutable snapshot of this {@link QuantityFormat}, which can be shared by any number of threads without synchronization.
+     * The snapshot formats and parses quantities as this format does at the time of this method invocation, including the labels of the
+     * units known to this format. Subsequent changes in the configuration of this format do not affect the snapshot.
+     * <p>
+     * If this format is already immutable and thread-safe, this method may return {@code this}.
+     * The default implementation throws {@link UnsupportedOperationException}; implementations are encouraged to override it.
+     * </p>
+     *
+     * @return an immutable and thread-safe snapshot of this format.
+     * @throws UnsupportedOperationException
+     *             if this format cannot provide snapshots.
+     * @see UnitFormat#snapshot()
+     * @since 2.3
+     */
+    default QuantityFormat snapshot() {
+        throw new UnsupportedOperationException("Snapshots not supported by " + getClass().getName());
+    }
 }
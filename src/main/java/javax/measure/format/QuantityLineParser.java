@@ -0,0 +1,231 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.format;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.text.ParsePosition;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import javax.measure.Quantity;
+
+/**
+ * Reads characters from a {@link Readable} and parses one quantity per line.
+ * Characters are read in blocks into a reusable buffer, and this object is given to
+ * {@link QuantityFormat#parse(CharSequence, ParsePosition)} as a view over the current line,
+ * so no {@code String} is created for each line by this class.
+ *
+ * @version 1.0, October 18, 2026
+ * @since 2.3
+ * @see QuantityFormat#parse(Readable, Consumer)
+ */
+final class QuantityLineParser implements CharSequence {
+    /**
+     * Initial number of characters in the buffer. The buffer grows if a line is longer than that.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The format to use for parsing each line.
+     */
+    private final QuantityFormat format;
+
+    /**
+     * Where to read the characters from.
+     */
+    private final Readable source;
+
+    /**
+     * The parse position, reused for all lines.
+     */
+    private final ParsePosition position = new ParsePosition(0);
+
+    /**
+     * The buffer of characters read from the source.
+     */
+    private char[] chars = new char[BUFFER_SIZE];
+
+    /**
+     * A wrapper around {@link #chars} for reading from the source.
+     */
+    private CharBuffer target = CharBuffer.wrap(chars);
+
+    /**
+     * Index in {@link #chars} of the first character of the current line.
+     */
+    private int offset;
+
+    /**
+     * Number of characters in the current line, excluding the line terminator.
+     */
+    private int length;
+
+    /**
+     * Number of the current line, counting from 1.
+     */
+    private long lineNumber;
+
+    /**
+     * Creates a new parser for the given source.
+     */
+    QuantityLineParser(final QuantityFormat format, final Readable source) {
+        this.format = format;
+        this.source = source;
+    }
+
+    /**
+     * Parses all lines until the end of the source and gives each quantity to the given consumer.
+     *
+     * @throws IOException if an error occurred while reading the source.
+     * @throws MeasurementParseException if a line cannot be parsed.
+     */
+    void forEach(final Consumer<? super Quantity<?>> action) throws IOException {
+        int count = 0;          // Number of valid characters in the buffer.
+        int lineStart = 0;      // Index of the first character of the line being scanned.
+        int scan = 0;           // Index of the next character to scan.
+        boolean skipLF = false; // Whether the previous line ended with '\r'.
+        for (;;) {
+            while (scan < count) {
+                final char c = chars[scan];
+                if (skipLF) {
+                    skipLF = false;
+                    if (c == '\n') {
+                        lineStart = ++scan;
+                        continue;
+                    }
+                }
+                if (c == '\n' || c == '\r') {
+                    skipLF = (c == '\r');
+                    parseLine(lineStart, scan, action);
+                    lineStart = ++scan;
+                } else {
+                    scan++;
+                }
+            }
+            if (lineStart != 0) {
+                count -= lineStart;
+                scan -= lineStart;
+                System.arraycopy(chars, lineStart, chars, 0, count);
+                lineStart = 0;
+            }
+            if (count == chars.length) {
+                chars = Arrays.copyOf(chars, count * 2);
+                target = CharBuffer.wrap(chars);
+            }
+            target.clear();
+            target.position(count);
+            final int n = source.read(target);
+            if (n < 0) {
+                if (count != 0) {
+                    parseLine(0, count, action);
+                }
+                return;
+            }
+            count += n;
+        }
+    }
+
+    /**
+     * Parses the characters in the given range of the buffer, ignoring blank lines.
+     */
+    private void parseLine(final int start, final int end, final Consumer<? super Quantity<?>> action) {
+        lineNumber++;
+        offset = start;
+        length = end - start;
+        int i = skipWhitespaces(0);
+        if (i == length) {
+            return;
+        }
+        position.setIndex(i);
+        position.setErrorIndex(-1);
+        final Quantity<?> quantity;
+        try {
+            quantity = format.parse(this, position);
+        } catch (MeasurementParseException e) {
+            throw (MeasurementParseException) new MeasurementParseException(
+                    "Line " + lineNumber + ": " + e.getMessage(), toString(), e.getPosition()).initCause(e);
+        }
+        i = skipWhitespaces(position.getIndex());
+        if (i < length) {
+            throw new MeasurementParseException("Line " + lineNumber + ": unexpected characters after the quantity", toString(), i);
+        }
+        action.accept(quantity);
+    }
+
+    /**
+     * Returns the index of the first non-whitespace character at or after the given index in the current line.
+     */
+    private int skipWhitespaces(int i) {
+        while (i < length && Character.isWhitespace(chars[offset + i])) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the number of characters in the current line.
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the character at the given index in the current line.
+     */
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return chars[offset + index];
+    }
+
+    /**
+     * Returns a copy of the given range of the current line.
+     * The returned sequence is not affected by the parsing of subsequent lines.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("[" + start + ", " + end + ")");
+        }
+        return new String(chars, offset + start, end - start);
+    }
+
+    /**
+     * Returns a copy of the current line.
+     */
+    @Override
+    public String toString() {
+        return new String(chars, offset, length);
+    }
+}
@@ -44,11 +44,17 @@ import javax.measure.Unit;
  * Instances of this class are not required to be thread-safe. It is recommended to use separate format instances for each thread. If multiple threads
  * access a format concurrently, it must be synchronized externally.
  * </p>
+ * <p>
+ * Implementations which are documented as thread-safe shall make each {@link #label(Unit, String) label} operation atomic: a concurrent
+ * {@code format} or {@code parse} operation sees either the unit label before the change or the new label, never an intermediate state.
+ * Labels added by a thread shall be visible to the {@code format} and {@code parse} operations that start after the {@code label} call
+ * returned. {@link LabelRegistry} provides those guarantees without requiring locks on the {@code format} and {@code parse} paths.
+ * </p>
  *
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@uom.technology">Werner Keil</a>
  *
- * @version 2.2, May 20, 2023
+ * @version 2.3, October 18, 2026
  * @since 1.0
  *
  * @see Unit
@@ -90,6 +96,9 @@ public interface UnitFormat {
      * also implementing <code>UnitFormat</code>. If a <code>UnitFormat</code> #isLocaleSensitive() it is up to the implementation, whether the label is
      * ignored, applied in a local-neutral manner (in addition to its local-sensitive information) or locale-specific.
      * </p>
+     * <p>
+     * Thread-safe implementations shall apply labels atomically, as described in the <a href="#synchronization">synchronization</a> section.
+     * </p>
      *
      * @param unit
      *            the unit being labeled.
@@ -147,4 +156,23 @@ public interface UnitFormat {
      * @since 2.0
      */
     Unit<?> parse(CharSequence csq) throws MeasurementParseException;
+
+    /**
+     * Returns an immutable snapshot of this {@link UnitFormat}, which can be shared by any number of threads without synchronization.
+     * The snapshot formats and parses units as this format does at the time of this method invocation, including the labels attached so far.
+     * Subsequent {@link #label(Unit, String) label} invocations on this format do not affect the snapshot, and invoking {@code label} on the
+     * snapshot throws {@link UnsupportedOperationException}.
+     * <p>
+     * If this format is already immutable and thread-safe, this method may return {@code this}.
+     * The default implementation throws {@link UnsupportedOperationException}; implementations are encouraged to override it.
+     * </p>
+     *
+     * @return an immutable and thread-safe snapshot of this format.
+     * @throws UnsupportedOperationException
+     *             if this format cannot provide snapshots.
+     * @since 2.3
+     */
+    default UnitFormat snapshot() {
+        throw new UnsupportedOperationException("Snapshots not supported by " + getClass().getName());
+    }
 }
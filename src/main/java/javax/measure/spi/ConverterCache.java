@@ -0,0 +1,273 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.spi;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.measure.IncommensurableException;
+import javax.measure.Quantity;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+/**
+ * A bounded cache of {@link UnitConverter}s keyed by their source and target {@link Unit}s.
+ * Repeated requests for a converter between the same pair of units are resolved by a single map lookup
+ * instead of recomputing system units, inversions and concatenations.
+ *
+ * <p>
+ * Units are compared with their {@link Object#equals(Object) equals} and {@link Object#hashCode() hashCode} methods,
+ * which is safe because unit instances shall be immutable. When the number of cached converters exceeds the capacity,
+ * the converters which have not been requested recently are evicted.
+ * </p>
+ *
+ * <p>
+ * The cache holds strong references to the units of its cached converters until they are evicted or {@linkplain #clear() cleared}.
+ * A cache living longer than the class loader of some units, for example the one of a {@link ServiceProvider} of a shared library,
+ * prevents that class loader from being garbage-collected while those units are cached.
+ * </p>
+ *
+ * <dl>
+ * <dt><span class="strong">Implementation Requirements</span></dt><dd>This class is thread-safe and lock-free for lookups.
+ *          Converters may be computed more than once when many threads request the same missing pair concurrently;
+ *          only one of the results is retained.</dd>
+ * </dl>
+ *
+ * @version 1.1, October 18, 2026
+ * @since 2.3
+ *
+ * @see ServiceProvider#getConverterCache()
+ */
+public class ConverterCache {
+    /**
+     * The capacity of caches created by {@link ServiceProvider} when not overridden.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The cached converters. Each entry records whether it has been requested since the last eviction.
+     */
+    private final Map<Key, Entry> converters;
+
+    /**
+     * The maximum number of converters to retain.
+     */
+    private final int capacity;
+
+    /**
+     * Whether a thread is currently evicting entries. Used for letting a single thread evict at a time.
+     */
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    /**
+     * Creates a new cache retaining at most the given number of converters.
+     *
+     * @param capacity
+     *            the maximum number of converters to retain.
+     * @throws IllegalArgumentException
+     *             if {@code capacity} is not positive.
+     */
+    public ConverterCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        converters = new ConcurrentHashMap<>(Math.min(capacity, DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Returns the converter from the given source unit to the given target unit of the same type, computing it with
+     * {@link Unit#getConverterTo(Unit)} if not already cached.
+     *
+     * @param <Q>
+     *            the type of the quantity measured by the units.
+     * @param source
+     *            the unit from which to convert the numeric values.
+     * @param target
+     *            the unit to which to convert the numeric values.
+     * @return the converter from {@code source} to {@code target}.
+     * @throws UnconvertibleException
+     *             if a converter cannot be constructed.
+     * @throws NullPointerException
+     *             if any argument is {@code null}.
+     */
+    public <Q extends Quantity<Q>> UnitConverter getConverterTo(Unit<Q> source, Unit<Q> target) throws UnconvertibleException {
+        final Key key = new Key(source, target);
+        final Entry entry = converters.get(key);
+        if (entry != null) {
+            return entry.get();
+        }
+        return put(key, source.getConverterTo(target));
+    }
+
+    /**
+     * Returns the converter from the given source unit to the given target unit of type unknown, computing it with
+     * {@link Unit#getConverterToAny(Unit)} if not already cached.
+     *
+     * @param source
+     *            the unit from which to convert the numeric values.
+     * @param target
+     *            the unit to which to convert the numeric values.
+     * @return the converter from {@code source} to {@code target}.
+     * @throws IncommensurableException
+     *             if {@code source} is not {@linkplain Unit#isCompatible(Unit) compatible} with {@code target}.
+     * @throws UnconvertibleException
+     *             if a converter cannot be constructed.
+     * @throws NullPointerException
+     *             if any argument is {@code null}.
+     */
+    public UnitConverter getConverterToAny(Unit<?> source, Unit<?> target) throws IncommensurableException, UnconvertibleException {
+        final Key key = new Key(source, target);
+        final Entry entry = converters.get(key);
+        if (entry != null) {
+            return entry.get();
+        }
+        return put(key, source.getConverterToAny(target));
+    }
+
+    /**
+     * Caches the given converter, evicting old entries if the capacity is exceeded.
+     *
+     * @return the cached converter, which may have been computed concurrently by another thread.
+     */
+    private UnitConverter put(final Key key, final UnitConverter converter) {
+        final Entry previous = converters.putIfAbsent(key, new Entry(converter));
+        if (previous != null) {
+            return previous.get();
+        }
+        if (converters.size() > capacity) {
+            evict();
+        }
+        return converter;
+    }
+
+    /**
+     * Removes entries until the cache size is back to three quarters of its capacity. This is a "second chance"
+     * approximation of a least-recently-used policy: an entry requested since the last sweep is spared once.
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return; // Another thread is already evicting.
+        }
+        try {
+            final int target = capacity - (capacity >>> 2);
+            for (int pass = 0; pass < 2 && converters.size() > target; pass++) {
+                final Iterator<Map.Entry<Key, Entry>> it = converters.entrySet().iterator();
+                while (it.hasNext() && converters.size() > target) {
+                    final Entry entry = it.next().getValue();
+                    if (entry.recent) {
+                        entry.recent = false;
+                    } else {
+                        it.remove();
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Removes all cached converters.
+     */
+    public void clear() {
+        converters.clear();
+    }
+
+    /**
+     * Returns the number of cached converters.
+     *
+     * @return the number of cached converters.
+     */
+    public int size() {
+        return converters.size();
+    }
+
+    /**
+     * Returns the maximum number of converters retained by this cache.
+     *
+     * @return the capacity of this cache.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * The (source, target) pair of units used as key in the cache.
+     */
+    private static final class Key {
+        private final Unit<?> source;
+        private final Unit<?> target;
+        private final int hash;
+
+        Key(final Unit<?> source, final Unit<?> target) {
+            this.source = Objects.requireNonNull(source);
+            this.target = Objects.requireNonNull(target);
+            hash = 31 * source.hashCode() + target.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj instanceof Key) {
+                final Key other = (Key) obj;
+                return hash == other.hash && source.equals(other.source) && target.equals(other.target);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A cached converter together with its "recently used" flag.
+     */
+    private static final class Entry {
+        private final UnitConverter converter;
+        private volatile boolean recent;
+
+        Entry(final UnitConverter converter) {
+            this.converter = converter;
+        }
+
+        UnitConverter get() {
+            if (!recent) {
+                recent = true; // Avoid a volatile write on every hit.
+            }
+            return converter;
+        }
+    }
+}
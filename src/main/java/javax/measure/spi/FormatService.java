@@ -36,9 +36,14 @@ import javax.measure.format.UnitFormat;
 
 /**
  * This interface represents the service to obtain instances of {@link UnitFormat} and {@link QuantityFormat}.
+ * <p>
+ * The returned formats may be mutable (for example through {@link UnitFormat#label(javax.measure.Unit, String)}) and are not required to be
+ * thread-safe. Applications sharing a format across threads can use {@link UnitFormat#snapshot()} or {@link QuantityFormat#snapshot()}
+ * for obtaining an immutable copy that needs no synchronization.
+ * </p>
  *
  * @author <a href="mailto:werner@uom.technology">Werner Keil</a>
- * @version 2.3, May 20, 2023
+ * @version 2.4, October 18, 2026
  * @since 2.0
  */
 public interface FormatService {
@@ -33,12 +33,15 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -47,6 +50,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.measure.Quantity;
+import javax.measure.UnitConverter;
 import javax.measure.format.QuantityFormat;
 import javax.measure.format.UnitFormat;
 
@@ -56,7 +60,7 @@ import javax.measure.format.UnitFormat;
  * All the methods in this class are safe to use by multiple concurrent threads.
  * </p>
  *
- * @version 2.3, May 19, 2023
+ * @version 2.4, October 18, 2026
  * @author Werner Keil
  * @author Martin Desruisseaux
  * @since 1.0
@@ -89,13 +93,35 @@ public abstract class ServiceProvider {
     /**
      * The current service provider, or {@code null} if not yet determined.
      *
-     * <p>Implementation Note: We do not cache a list of all service providers because that list depends
-     * indirectly on the thread invoking the {@link #available()} method. More specifically, it depends
-     * on the context class loader. Furthermore caching the {@code ServiceProvider}s can be a source of
-     * memory leaks. See {@link ServiceLoader#load(Class)} API note for reference.</p>
+     * <p>Implementation Note: The list of all service providers is cached separately in {@link #PROVIDERS}
+     * because that list depends indirectly on the thread invoking the {@link #available()} method.
+     * More specifically, it depends on the context class loader.</p>
      */
     private static final AtomicReference<ServiceProvider> current = new AtomicReference<>();
 
+    /**
+     * The service providers found by {@link ServiceLoader} for each context class loader, sorted by priority.
+     * All accesses to this map shall be synchronized on the map.
+     *
+     * <p>Implementation Note: Caching the {@code ServiceProvider}s can be a source of memory leaks
+     * (see {@link ServiceLoader#load(Class)} API note for reference). The class loaders are weakly referenced,
+     * and a list is cached only if all its providers are defined by the class loader of {@code ServiceProvider}
+     * or one of its parents. Those classes live at least as long as this map, so the cached list holds no strong
+     * reference to a class loader that could otherwise be garbage-collected. Other lists, for example of providers
+     * deployed in a web application while this API is in a shared library, are loaded again on each invocation.</p>
+     */
+    private static final Map<ClassLoader, List<ServiceProvider>> PROVIDERS = new WeakHashMap<>();
+
+    /**
+     * The cache of converters returned by {@link #getConverterCache()}.
+     */
+    private final ConverterCache converterCache = new ConverterCache(ConverterCache.DEFAULT_CAPACITY);
+
+    /**
+     * The table of canonical units returned by {@link #getUnitInterner()}.
+     */
+    private final UnitInterner unitInterner = new UnitInterner();
+
     /**
      * Creates a new service provider. Only to be used by subclasses.
      */
@@ -132,6 +158,47 @@ public abstract class ServiceProvider {
      */
     public abstract FormatService getFormatService();
 
+    /**
+     * Returns the cache of {@link UnitConverter}s between pairs of units. Repeated conversions between the same pair of units
+     * can use this cache for obtaining their converter with a single lookup. For example:
+     *
+     * <pre>
+     * UnitConverter c = ServiceProvider.current().getConverterCache().getConverterTo(FOOT, METRE);
+     * </pre>
+     *
+     * The default implementation returns a cache of {@value ConverterCache#DEFAULT_CAPACITY} converters owned by this provider.
+     * Implementors may override this method for returning a cache with a different capacity, or a cache shared with other components.
+     *
+     * <p>The cache holds strong references to the units of its cached converters until they are evicted or {@linkplain ConverterCache#clear()
+     * cleared}. Since a provider may be cached for the lifetime of the class loader of this API, units defined in a child class loader,
+     * for example of a web application, should not be given to this cache, or the cache should be cleared when that class loader is discarded.</p>
+     *
+     * @return the cache of converters used with the units of this provider, never {@code null}.
+     * @since 2.3
+     */
+    public ConverterCache getConverterCache() {
+        return converterCache;
+    }
+
+    /**
+     * Returns the table of canonical units. Units created by this provider for the same definition can be
+     * {@linkplain UnitInterner#intern(javax.measure.Unit) interned} in this table, so they become the same instance
+     * and can be compared by identity. For example:
+     *
+     * <pre>
+     * Unit&lt;Speed&gt; kmh = ServiceProvider.current().getUnitInterner().intern(KILOMETRE.divide(HOUR).asType(Speed.class));
+     * </pre>
+     *
+     * The default implementation returns a table owned by this provider.
+     * Implementors may override this method for returning a table shared with other components.
+     *
+     * @return the table of canonical units of this provider, never {@code null}.
+     * @since 2.3
+     */
+    public UnitInterner getUnitInterner() {
+        return unitInterner;
+    }
+
     /**
      * Returns a factory for the given {@link Quantity} type.
      *
@@ -159,25 +226,73 @@ public abstract class ServiceProvider {
          * The {@code value()} method in the {@value #NAMED_ANNOTATION} annotation,
          * or {@code null} if that class is not on the classpath.
          */
-        private final Method nameGetter;
+        private static final Method nameGetter;
 
         /**
          * The {@code value()} method in the {@value #PRIORITY_ANNOTATION} annotation,
          * or {@code null} if that class is not on the classpath.
          */
-        private final Method priorityGetter;
+        private static final Method priorityGetter;
 
         /**
          * The {@code value()} method in the {@value #LEGACY_NAMED_ANNOTATION} annotation,
          * or {@code null} if that class is not on the classpath.
          */
-        private final Method legacyNameGetter;
+        private static final Method legacyNameGetter;
 
         /**
          * The {@code value()} method in the {@value #LEGACY_PRIORITY_ANNOTATION} annotation,
          * or {@code null} if that class is not on the classpath.
          */
-        private final Method legacyPriorityGetter;
+        private static final Method legacyPriorityGetter;
+        static {
+            try {
+                nameGetter           = getValueMethod(NAMED_ANNOTATION);
+                legacyNameGetter     = getValueMethod(LEGACY_NAMED_ANNOTATION);
+                priorityGetter       = getValueMethod(PRIORITY_ANNOTATION);
+                legacyPriorityGetter = getValueMethod(LEGACY_PRIORITY_ANNOTATION);
+            } catch (NoSuchMethodException e) {
+                // Should never happen since value() is a standard public method of those annotations.
+                throw new ServiceConfigurationError("Cannot get annotation value", e);
+            }
+        }
+
+        /**
+         * The name and priority declared by annotations on each service provider class.
+         * Those values are computed by reflection only once per class, so sorting and filtering
+         * providers does not invoke the annotation methods on every comparison.
+         */
+        private static final ClassValue<Metadata> METADATA = new ClassValue<Metadata>() {
+            @Override
+            protected Metadata computeValue(final Class<?> type) {
+                return new Metadata(type);
+            }
+        };
+
+        /**
+         * The name and priority declared by annotations on a service provider class.
+         */
+        private static final class Metadata {
+            /**
+             * The value of the {@value #NAMED_ANNOTATION} or {@value #LEGACY_NAMED_ANNOTATION} annotation,
+             * or {@code null} if none.
+             */
+            final Object name;
+
+            /**
+             * The value of the {@value #PRIORITY_ANNOTATION} or {@value #LEGACY_PRIORITY_ANNOTATION} annotation,
+             * or {@code null} if none.
+             */
+            final Integer priority;
+
+            /**
+             * Fetches the annotation values on the given service provider class.
+             */
+            Metadata(final Class<?> type) {
+                name     = getValue(type, nameGetter, legacyNameGetter);
+                priority = (Integer) getValue(type, priorityGetter, legacyPriorityGetter);
+            }
+        }
 
         /**
          * Creates a new filter and comparator for a stream of service providers.
@@ -186,20 +301,6 @@ public abstract class ServiceProvider {
          */
         Selector(String name) {
             toSearch = name;
-            try {
-                if (name != null) {
-                    nameGetter       = getValueMethod(NAMED_ANNOTATION);
-                    legacyNameGetter = getValueMethod(LEGACY_NAMED_ANNOTATION);
-                } else {
-                    nameGetter       = null;
-                    legacyNameGetter = null;
-                }
-                priorityGetter       = getValueMethod(PRIORITY_ANNOTATION);
-                legacyPriorityGetter = getValueMethod(LEGACY_PRIORITY_ANNOTATION);
-            } catch (NoSuchMethodException e) {
-                // Should never happen since value() is a standard public method of those annotations.
-                throw new ServiceConfigurationError("Cannot get annotation value", e);
-            }
         }
 
         /**
@@ -253,7 +354,7 @@ public abstract class ServiceProvider {
          */
         @Override
         public boolean test(final ServiceProvider provider) {
-            Object value = getValue(provider.getClass(), nameGetter, legacyNameGetter);
+            Object value = METADATA.get(provider.getClass()).name;
             if (value == null) {
                 value = provider.toString();
             }
@@ -266,9 +367,9 @@ public abstract class ServiceProvider {
          * annotations in that order, and if none are found falls back on {@link ServiceProvider#getPriority()}.
          */
         private int priority(final ServiceProvider provider) {
-            Object value = getValue(provider.getClass(), priorityGetter, legacyPriorityGetter);
+            final Integer value = METADATA.get(provider.getClass()).priority;
             if (value != null) {
-                return (Integer) value;
+                return value;
             }
             return provider.getPriority();
         }
@@ -282,26 +383,86 @@ public abstract class ServiceProvider {
             return Integer.compare(priority(p2), priority(p1)); // reverse order, higher number first.
         }
 
+        /**
+         * Loads all {@link ServiceProvider}s visible from the given class loader, sorted by priority.
+         *
+         * @param  loader  the class loader from which to load the providers, or {@code null} for the system class loader.
+         */
+        private List<ServiceProvider> load(final ClassLoader loader) {
+            return StreamSupport.stream(ServiceLoader.load(ServiceProvider.class, loader).spliterator(), false)
+                    .sorted(this).collect(Collectors.toList());
+        }
+
         /**
          * Gets all {@link ServiceProvider}s sorted by priority and optionally filtered by the name in this selector.
-         * The list of service providers is <strong>not</strong> cached because it depends on the context class loader,
-         * which itself depends on which thread is invoking this method.
+         * The list of service providers may be cached for the context class loader of the thread invoking this method.
          */
         private Stream<ServiceProvider> stream() {
-            Stream<ServiceProvider> stream = StreamSupport.stream(ServiceLoader.load(ServiceProvider.class).spliterator(), false);
+            Stream<ServiceProvider> stream = providers().stream();
             if (toSearch != null) {
                 stream = stream.filter(this);
             }
-            return stream.sorted(this);
+            return stream;
         }
     }
 
+    /**
+     * Returns all service providers available for the current thread's context class loader, sorted by priority.
+     * The {@link ServiceLoader} is used only the first time that this method is invoked for a class loader,
+     * and the result is cached for subsequent invocations when it can not prevent class loaders from being
+     * garbage-collected (see {@link #PROVIDERS}).
+     *
+     * @return all service providers available for the current thread's context class loader, as an unmodifiable list.
+     */
+    private static List<ServiceProvider> providers() {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        synchronized (PROVIDERS) {
+            final List<ServiceProvider> providers = PROVIDERS.get(loader);
+            if (providers != null) {
+                return providers;
+            }
+        }
+        // Load outside the synchronized block since the providers may execute arbitrary code.
+        final List<ServiceProvider> providers = Collections.unmodifiableList(new Selector(null).load(loader));
+        for (final ServiceProvider provider : providers) {
+            if (!isCacheable(provider.getClass())) {
+                return providers;
+            }
+        }
+        synchronized (PROVIDERS) {
+            final List<ServiceProvider> previous = PROVIDERS.putIfAbsent(loader, providers);
+            return (previous != null) ? previous : providers;
+        }
+    }
+
+    /**
+     * Returns whether the given provider class is defined by the class loader of {@code ServiceProvider}
+     * or one of its parents. Such classes can be cached without preventing any class loader from being
+     * garbage-collected.
+     */
+    private static boolean isCacheable(final Class<?> type) {
+        final ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return true;        // Bootstrap class loader.
+        }
+        for (ClassLoader parent = ServiceProvider.class.getClassLoader(); parent != null; parent = parent.getParent()) {
+            if (parent == loader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns the list of all service providers available for the current thread's context class loader.
      * The {@linkplain #current() current} service provider is always the first item in the returned list.
      * Other service providers after the first item may depend on the caller thread
      * (see {@linkplain ServiceLoader#load(Class) service loader API note}).
      *
+     * <p>The providers are instantiated once per context class loader, and subsequent invocations return the same
+     * instances. An exception is made when a provider class is not defined by the class loader of this API or one
+     * of its parents: the providers are then loaded again on each invocation, for avoiding memory leaks.</p>
+     *
      * @return all service providers available for the current thread's context class loader.
      */
     public static final List<ServiceProvider> available() {
@@ -310,8 +471,9 @@ public abstract class ServiceProvider {
         /*
          * Make sure that 'first' is the first item in the 'providers' list. If that item appears
          * somewhere else, we have to remove the second occurrence for avoiding duplicated elements.
-         * We compare the classes, not the instances, because new instances may be created each time
-         * this method is invoked and we have no guaranteed that implementors overrode 'equals'.
+         * We compare the classes, not the instances, because the current provider may be an instance given to
+         * setCurrent(...) rather than the one loaded by ServiceLoader, and we have no guaranteed that implementors
+         * overrode 'equals'.
          */
 setcur: if (first != null) {
             final Class<?> cf = first.getClass();
@@ -341,6 +503,10 @@ setcur: if (first != null) {
      * Should multiple service providers nevertheless use the same name, the one with the highest
      * {@linkplain #getPriority() priority} wins.</p>
      *
+     * <p>The providers are instantiated once per context class loader, and subsequent invocations of this method or {@link #available()} return the same
+     * instances. An exception is made when a provider class is not defined by the class loader of this API or one
+     * of its parents: the providers are then loaded again on each invocation, for avoiding memory leaks.</p>
+     *
      * @param name
      *            the name of the service provider to return
      * @return the {@link ServiceProvider} with the specified name
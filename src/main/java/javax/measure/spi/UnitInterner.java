@@ -0,0 +1,116 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.spi;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+/**
+ * A table of canonical {@link Unit} instances. Interning a unit returns a previously interned instance
+ * {@linkplain Object#equals(Object) equal} to the given unit if there is one, or the given unit otherwise.
+ * Units created separately for the same definition can thereby be replaced by a single instance,
+ * which reduces memory usage and allows the identity shortcut ({@code this == that}) of
+ * {@link Unit#equals(Object)} or {@link Unit#getConverterTo(Unit)} implementations to succeed
+ * instead of comparing the unit structures.
+ *
+ * <p>
+ * Units are compared with their {@link Object#equals(Object) equals} and {@link Object#hashCode() hashCode} methods,
+ * which shall compare the unit structure (for example the base units and their exponents, or the parent unit and
+ * the converter). Interned units are weakly referenced: a unit which is no longer used elsewhere is removed
+ * from the table by the garbage collector.
+ * </p>
+ *
+ * <dl>
+ * <dt><span class="strong">Implementation Requirements</span></dt><dd>This class is thread-safe.</dd>
+ * </dl>
+ *
+ * @version 1.0, October 18, 2026
+ * @since 2.3
+ *
+ * @see ServiceProvider#getUnitInterner()
+ */
+public class UnitInterner {
+    /**
+     * The canonical units. Keys and values reference the same instance, weakly.
+     * All accesses to this map shall be synchronized on the map.
+     */
+    private final Map<Unit<?>, WeakReference<Unit<?>>> units = new WeakHashMap<>();
+
+    /**
+     * Creates a new, empty table of units.
+     */
+    public UnitInterner() {
+    }
+
+    /**
+     * Returns the canonical instance of the given unit. If an equal unit has been interned before and is still
+     * in use, that unit is returned. Otherwise the given unit is added to this table and returned.
+     *
+     * @param <Q>
+     *            the type of the quantity measured by the unit.
+     * @param unit
+     *            the unit to intern.
+     * @return a unit equal to the given one, which is the same instance for all equal units.
+     * @throws NullPointerException
+     *             if {@code unit} is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public <Q extends Quantity<Q>> Unit<Q> intern(final Unit<Q> unit) {
+        Objects.requireNonNull(unit, "unit");
+        synchronized (units) {
+            final WeakReference<Unit<?>> ref = units.get(unit);
+            if (ref != null) {
+                final Unit<?> existing = ref.get();
+                if (existing != null) {
+                    return (Unit<Q>) existing; // Safe because existing.equals(unit).
+                }
+            }
+            units.put(unit, new WeakReference<>(unit));
+        }
+        return unit;
+    }
+
+    /**
+     * Returns the number of interned units still in use. This is an approximation, since units may be
+     * garbage-collected at any time.
+     *
+     * @return the number of interned units.
+     */
+    public int size() {
+        synchronized (units) {
+            return units.size();
+        }
+    }
+}
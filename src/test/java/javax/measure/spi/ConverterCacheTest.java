@@ -0,0 +1,126 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.spi;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.measure.IncommensurableException;
+import javax.measure.Quantity;
+import javax.measure.UnitConverter;
+import javax.measure.test.unit.DistanceUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ConverterCache}.
+ */
+public class ConverterCacheTest {
+
+    @Test
+    public void testCachedConverter() {
+        final ConverterCache cache = new ConverterCache(8);
+        final UnitConverter first = cache.getConverterTo(DistanceUnit.km, DistanceUnit.m);
+        assertNotNull(first);
+        assertSame(first, cache.getConverterTo(DistanceUnit.km, DistanceUnit.m));
+        assertEquals(1, cache.size());
+        cache.getConverterTo(DistanceUnit.m, DistanceUnit.km);
+        assertEquals(2, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSharedEntry() throws Exception {
+        final ConverterCache cache = new ConverterCache(8);
+        final UnitConverter converter = cache.getConverterTo(DistanceUnit.km, DistanceUnit.m);
+        assertSame(converter, cache.getConverterToAny(DistanceUnit.km, DistanceUnit.m));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testIncommensurableNotCached() {
+        final ConverterCache cache = new ConverterCache(8);
+        assertThrows(IncommensurableException.class, () -> cache.getConverterToAny(DistanceUnit.km, DistanceUnit.m));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEviction() {
+        final ConverterCache cache = new ConverterCache(4);
+        final DistanceUnit recent = new DistanceUnit("recent", 2);
+        for (int i = 0; i < 20; i++) {
+            cache.getConverterTo(recent, DistanceUnit.m);
+            final DistanceUnit unit = new DistanceUnit("u" + i, i + 1);
+            cache.getConverterTo(unit, DistanceUnit.m);
+            assertTrue(cache.size() <= cache.getCapacity());
+        }
+        final UnitConverter converter = cache.getConverterTo(recent, DistanceUnit.m);
+        final int size = cache.size();
+        assertSame(converter, cache.getConverterTo(recent, DistanceUnit.m));
+        assertEquals(size, cache.size(), "Recently used converter should not have been evicted.");
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new ConverterCache(0));
+    }
+
+    @Test
+    public void testNullUnit() {
+        final ConverterCache cache = new ConverterCache(4);
+        assertThrows(NullPointerException.class, () -> cache.getConverterTo(null, DistanceUnit.m));
+    }
+
+    @Test
+    public void testServiceProviderCache() {
+        final ServiceProvider provider = new ServiceProvider() {
+            @Override
+            public SystemOfUnitsService getSystemOfUnitsService() {
+                return null;
+            }
+
+            @Override
+            public FormatService getFormatService() {
+                return null;
+            }
+
+            @Override
+            public <Q extends Quantity<Q>> QuantityFactory<Q> getQuantityFactory(Class<Q> quantity) {
+                return null;
+            }
+        };
+        final ConverterCache cache = provider.getConverterCache();
+        assertSame(cache, provider.getConverterCache());
+        assertEquals(ConverterCache.DEFAULT_CAPACITY, cache.getCapacity());
+        final DistanceUnit inch = DistanceUnit.in;
+        final UnitConverter converter = cache.getConverterTo(inch, DistanceUnit.m);
+        assertSame(converter, cache.getConverterTo(inch, DistanceUnit.m));
+    }
+}
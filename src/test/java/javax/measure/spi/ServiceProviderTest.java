@@ -34,7 +34,15 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import javax.measure.BinaryPrefix;
 import javax.measure.MetricPrefix;
@@ -104,6 +112,55 @@ public class ServiceProviderTest {
         });
     }
 
+    /**
+     * Tests that the providers found for a context class loader are cached, and that each context class loader
+     * gets its own list.
+     */
+    @Test
+    public void testAvailableCachedPerClassLoader() throws IOException {
+        final Path dir = Files.createTempDirectory("services");
+        final Path services = dir.resolve("META-INF/services/" + ServiceProvider.class.getName());
+        Files.createDirectories(services.getParent());
+        Files.write(services, Collections.singleton(RegisteredServiceProvider.class.getName()), StandardCharsets.UTF_8);
+        final Thread thread = Thread.currentThread();
+        final ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader first = new URLClassLoader(new URL[] { dir.toUri().toURL() }, original);
+             URLClassLoader second = new URLClassLoader(new URL[] { dir.toUri().toURL() }, original)) {
+            thread.setContextClassLoader(first);
+            final ServiceProvider provider = registered(ServiceProvider.available());
+            assertNotNull(provider, "Expected the provider registered in META-INF/services.");
+            assertSame(provider, registered(ServiceProvider.available()));
+            assertSame(provider, ServiceProvider.of(RegisteredServiceProvider.NAME));
+
+            thread.setContextClassLoader(second);
+            final ServiceProvider other = registered(ServiceProvider.available());
+            assertNotNull(other);
+            assertNotSame(provider, other);
+            assertSame(other, registered(ServiceProvider.available()));
+
+            thread.setContextClassLoader(original);
+            assertNull(registered(ServiceProvider.available()));
+        } finally {
+            thread.setContextClassLoader(original);
+            Files.delete(services);
+            Files.delete(services.getParent());
+            Files.delete(services.getParent().getParent());
+            Files.delete(dir);
+        }
+    }
+
+    /**
+     * Returns the {@link RegisteredServiceProvider} in the given list, or {@code null} if none.
+     */
+    private static ServiceProvider registered(final List<ServiceProvider> providers) {
+        for (final ServiceProvider provider : providers) {
+            if (provider instanceof RegisteredServiceProvider) {
+                return provider;
+            }
+        }
+        return null;
+    }
+
     @Test
     public void testGetMetricPrefixes() {
         final ServiceProvider testProv = new TestServiceProvider();
@@ -170,6 +227,33 @@ public class ServiceProviderTest {
         }
     }
 
+    /**
+     * A provider registered in a {@code META-INF/services} file created by {@link #testAvailableCachedPerClassLoader()}.
+     */
+    public static final class RegisteredServiceProvider extends ServiceProvider {
+        static final String NAME = "Registered ServiceProvider";
+
+        @Override
+        public SystemOfUnitsService getSystemOfUnitsService() {
+            return null;
+        }
+
+        @Override
+        public <Q extends Quantity<Q>> QuantityFactory<Q> getQuantityFactory(Class<Q> quantity) {
+            return null;
+        }
+
+        @Override
+        public FormatService getFormatService() {
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return NAME;
+        }
+    }
+
     private static enum DummyEnum {
         A, B
     }
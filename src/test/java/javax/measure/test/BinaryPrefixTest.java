@@ -29,8 +29,11 @@
  */
 package javax.measure.test;
 
+import java.math.BigDecimal;
+
 import javax.measure.Quantity;
 import javax.measure.Unit;
+import javax.measure.UnitConverter;
 import javax.measure.quantity.Area;
 import javax.measure.quantity.Length;
 import javax.measure.quantity.Speed;
@@ -127,4 +130,28 @@ public class BinaryPrefixTest {
         assertNotNull(a1);
         assertEquals("1.0 4777854289043363500000000", a1.toString());
     }
+
+    @Test
+    public void testFactor() {
+        assertEquals(1024, KIBI.getFactor());
+        assertEquals(Math.pow(1024, 8), YOBI.getFactor());
+        assertEquals(0, BigDecimal.valueOf(1024).pow(8).compareTo(YOBI.getExactFactor()));
+    }
+
+    @Test
+    public void testRatio() {
+        assertEquals(1024, ratio(MEBI, KIBI));
+        assertEquals(1.0 / 1024, ratio(KIBI, MEBI));
+        assertEquals(1, ratio(GIBI, GIBI));
+        assertEquals(0, BigDecimal.ONE.compareTo(exactRatio(KIBI, YOBI).multiply(BigDecimal.valueOf(1024).pow(7))));
+    }
+
+    @Test
+    public void testGetConverterTo() {
+        final UnitConverter converter = MEBI.getConverterTo(KIBI);
+        assertEquals(2048.0, converter.convert(2.0));
+        assertEquals(2.0, converter.inverse().convert(2048.0));
+        assertEquals(KIBI.getConverterTo(GIBI), KIBI.getConverterTo(MEBI).concatenate(MEBI.getConverterTo(GIBI)));
+        assertEquals(1.0, KIBI.getConverterTo(YOBI).convert(Math.pow(1024, 7)));
+    }
 }
@@ -31,7 +31,14 @@ package javax.measure.test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.lang.invoke.MethodHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+import javax.measure.RationalConverter;
 import javax.measure.UnitConverter;
+import javax.measure.test.function.MultiplyConverter;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,4 +61,220 @@ public class ConverterTest {
     assertTrue(sut.isLinear());
   }
 
+  @Test
+  public void testIdentityArray() {
+    final double[] src = { 1, 2, 3, 4 };
+    final double[] dst = new double[3];
+    sut.convert(src, 1, dst, 0, 3);
+    assertArrayEquals(new double[] { 2, 3, 4 }, dst);
+  }
+
+  @Test
+  public void testMultiplyArray() {
+    final UnitConverter converter = new MultiplyConverter(1000);
+    final double[] src = { 1, 2.5, -3 };
+    final double[] dst = new double[5];
+    converter.convert(src, 0, dst, 1, 3);
+    assertArrayEquals(new double[] { 0, 1000, 2500, -3000, 0 }, dst);
+  }
+
+  @Test
+  public void testPairArrayInPlace() {
+    final UnitConverter converter = new TestConverter.Pair(new MultiplyConverter(2), new MultiplyConverter(5));
+    final double[] values = { 1, 2, 3 };
+    converter.convert(values, 0, values, 0, values.length);
+    assertArrayEquals(new double[] { 10, 20, 30 }, values);
+  }
+
+  @Test
+  public void testDefaultArray() {
+    final UnitConverter converter = new Negate();
+    final double[] src = { 1, -2, 3 };
+    final double[] dst = new double[3];
+    converter.convert(src, 0, dst, 0, 3);
+    assertArrayEquals(new double[] { -1, 2, -3 }, dst);
+  }
+
+  @Test
+  public void testArrayOutOfBounds() {
+    final double[] src = new double[4];
+    final double[] dst = new double[2];
+    assertThrows(IndexOutOfBoundsException.class, () -> new MultiplyConverter(2).convert(src, 0, dst, 0, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> new Negate().convert(src, 2, dst, 0, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> sut.convert(src, -1, dst, 0, 1));
+  }
+
+  @Test
+  public void testHeapBuffer() {
+    final UnitConverter converter = new MultiplyConverter(10);
+    final DoubleBuffer src = DoubleBuffer.wrap(new double[] { 1, 2, 3, 4 });
+    final DoubleBuffer dst = DoubleBuffer.allocate(4);
+    src.position(1);
+    converter.convert(src, dst);
+    assertEquals(4, src.position());
+    assertEquals(3, dst.position());
+    assertArrayEquals(new double[] { 20, 30, 40, 0 }, dst.array());
+  }
+
+  @Test
+  public void testDirectBuffer() {
+    final UnitConverter converter = new TestConverter.Pair(new MultiplyConverter(2), new Negate());
+    final DoubleBuffer values = DoubleBuffer.allocate(3).put(new double[] { 1, 2, 3 });
+    values.flip();
+    final DoubleBuffer dst = ByteBuffer.allocateDirect(3 * Double.BYTES).asDoubleBuffer();
+    converter.convert(values, dst);
+    assertFalse(values.hasRemaining());
+    assertFalse(dst.hasRemaining());
+    dst.flip();
+    assertEquals(-2, dst.get(), 0);
+    assertEquals(-4, dst.get(), 0);
+    assertEquals(-6, dst.get(), 0);
+  }
+
+  @Test
+  public void testBufferOverflow() {
+    final DoubleBuffer src = DoubleBuffer.allocate(3);
+    final DoubleBuffer dst = DoubleBuffer.allocate(2);
+    assertThrows(BufferOverflowException.class, () -> sut.convert(src, dst));
+    assertEquals(0, src.position());
+  }
+
+  @Test
+  public void testConcatenateFoldsLinearSteps() {
+    UnitConverter converter = sut;
+    for (int i = 0; i < 6; i++) {
+      converter = converter.concatenate(new MultiplyConverter(10)).concatenate(TestConverter.IDENTITY);
+    }
+    assertEquals(1, converter.getConversionSteps().size());
+    assertTrue(converter instanceof MultiplyConverter);
+    assertEquals(1e6, converter.convert(1), 1e-6);
+  }
+
+  @Test
+  public void testConcatenateToIdentity() {
+    final UnitConverter converter = new MultiplyConverter(4).concatenate(new MultiplyConverter(0.25));
+    assertTrue(converter.isIdentity());
+  }
+
+  @Test
+  public void testConcatenateInverseChain() {
+    final UnitConverter converter = new MultiplyConverter(1e-3).concatenate(new MultiplyConverter(1e3));
+    assertEquals(42.0, converter.convert(42.0), 1e-12);
+    assertEquals(42.0, new MultiplyConverter(0.1).concatenate((TestConverter) new MultiplyConverter(10)).convert(42.0), 1e-12);
+  }
+
+  @Test
+  public void testConcatenateKeepsNearUnityFactor() {
+    final double factor = 1 + Math.ulp(1.0);
+    final UnitConverter converter = new MultiplyConverter(factor).concatenate(TestConverter.IDENTITY);
+    assertFalse(converter.isIdentity());
+    assertEquals(factor, converter.convert(1.0), 0);
+  }
+
+  @Test
+  public void testConcatenateKeepsExactSteps() {
+    final RationalConverter third = RationalConverter.of(1, 3);
+    final UnitConverter converter = new MultiplyConverter(2).concatenate(third);
+    assertEquals(2, converter.getConversionSteps().size());
+    assertTrue(converter.getConversionSteps().contains(third));
+    assertEquals(2.0, converter.convert(3.0), 1e-12);
+  }
+
+  @Test
+  public void testConcatenateKeepsNonLinearSteps() {
+    final UnitConverter converter = new MultiplyConverter(2).concatenate(new MultiplyConverter(3))
+        .concatenate(new Shift(1)).concatenate(new MultiplyConverter(5)).concatenate(new MultiplyConverter(7));
+    assertEquals(3, converter.getConversionSteps().size());
+    assertEquals(6 * (35 * 2 + 1), converter.convert(2), 0);
+  }
+
+  @Test
+  public void testIdentityMethodHandle() throws Throwable {
+    final MethodHandle handle = sut.asMethodHandle();
+    assertEquals(42.0, (double) handle.invokeExact(42.0), 0);
+  }
+
+  @Test
+  public void testMultiplyMethodHandle() throws Throwable {
+    final MethodHandle handle = new MultiplyConverter(1e-3).asMethodHandle();
+    assertEquals(2.5, (double) handle.invokeExact(2500.0), 1e-12);
+  }
+
+  @Test
+  public void testCompoundMethodHandle() throws Throwable {
+    final UnitConverter converter = new MultiplyConverter(3).concatenate(new Shift(1)).concatenate(new Negate())
+        .concatenate(new Shift(10));
+    assertEquals(4, converter.getConversionSteps().size());
+    final MethodHandle handle = converter.asMethodHandle();
+    for (double value = -5; value <= 5; value += 0.5) {
+      assertEquals(converter.convert(value), (double) handle.invokeExact(value), 0);
+    }
+  }
+
+  /**
+   * A non-linear converter adding a constant offset.
+   */
+  private static final class Shift extends TestConverter {
+    private final double offset;
+
+    Shift(double offset) {
+      this.offset = offset;
+    }
+
+    @Override
+    public double convert(double value) {
+      return value + offset;
+    }
+
+    @Override
+    public Shift inverse() {
+      return new Shift(-offset);
+    }
+
+    @Override
+    public boolean isLinear() {
+      return false;
+    }
+
+    @Override
+    public boolean equals(Object cvtr) {
+      return (cvtr instanceof Shift) && ((Shift) cvtr).offset == offset;
+    }
+
+    @Override
+    public int hashCode() {
+      return Double.hashCode(offset);
+    }
+  }
+
+  /**
+   * A converter relying on the default implementation of the bulk conversion methods.
+   */
+  private static final class Negate extends TestConverter {
+    @Override
+    public double convert(double value) {
+      return -value;
+    }
+
+    @Override
+    public Negate inverse() {
+      return this;
+    }
+
+    @Override
+    public boolean isLinear() {
+      return true;
+    }
+
+    @Override
+    public boolean equals(Object cvtr) {
+      return cvtr instanceof Negate;
+    }
+
+    @Override
+    public int hashCode() {
+      return 1;
+    }
+  }
+
 }
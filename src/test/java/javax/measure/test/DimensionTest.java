@@ -31,7 +31,13 @@ package javax.measure.test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
 import javax.measure.Dimension;
+import javax.measure.DimensionVector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -81,4 +87,125 @@ public class DimensionTest {
         assertEquals(1, sut.getBaseDimensions().size());
     }
 
+    @Test
+    public void testFingerprint() {
+        final long fingerprint = sut.getFingerprint();
+        assertEquals(fingerprint, sut.getFingerprint());
+        assertFalse(DimensionVector.isDefined(fingerprint));
+
+        final Map<Dimension, Integer> forward = new LinkedHashMap<>();
+        forward.put(new Base(1), 1);
+        forward.put(new Base(2), -2);
+        final Map<Dimension, Integer> backward = new LinkedHashMap<>();
+        backward.put(new Base(2), -2);
+        backward.put(new Base(1), 1);
+        assertEquals(new Product(forward).getFingerprint(), new Product(backward).getFingerprint());
+        backward.put(new Base(2), 2);
+        assertNotEquals(new Product(forward).getFingerprint(), new Product(backward).getFingerprint());
+    }
+
+    @Test
+    public void testFingerprintSwappedExponents() {
+        final Map<Dimension, Integer> lm2 = new HashMap<>();
+        lm2.put(new Base(1), 1);
+        lm2.put(new Base(2), 2);
+        final Map<Dimension, Integer> l2m = new HashMap<>();
+        l2m.put(new Base(1), 2);
+        l2m.put(new Base(2), 1);
+        assertNotEquals(new Product(lm2).getFingerprint(), new Product(l2m).getFingerprint());
+    }
+
+    @Test
+    public void testFingerprintConsistentWithEquals() {
+        final Map<Dimension, Integer> hashed = new HashMap<>();
+        hashed.put(new Base(3), 1);
+        hashed.put(new Base(4), -1);
+        final Map<Dimension, Integer> sorted = new TreeMap<>((a, b) -> Integer.compare(a.hashCode(), b.hashCode()));
+        sorted.put(new Base(4), -1);
+        sorted.put(new Base(3), 1);
+        assertEquals(new Product(hashed), new Product(sorted));
+        assertEquals(new Product(hashed).getFingerprint(), new Product(sorted).getFingerprint());
+    }
+
+    @Test
+    public void testFingerprintFromVector() {
+        final long force = DimensionVector.of(-2, 1, 1);
+        final Dimension dimension = new Product(null) {
+            @Override
+            public long getExponentVector() {
+                return force;
+            }
+        };
+        assertEquals(force, dimension.getFingerprint());
+        assertTrue(DimensionVector.isDefined(dimension.getFingerprint()));
+    }
+
+    /**
+     * A base dimension identified by an integer.
+     */
+    private static final class Base extends Product {
+        private final int id;
+
+        Base(int id) {
+            super(null);
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj instanceof Base) && ((Base) obj).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+
+    /**
+     * A dimension defined by a map of base dimensions. Algebra operations are not needed by the tests.
+     */
+    private static class Product implements Dimension {
+        private final Map<Dimension, Integer> bases;
+
+        Product(Map<Dimension, Integer> bases) {
+            this.bases = bases;
+        }
+
+        @Override
+        public Dimension multiply(Dimension multiplicand) {
+            return null;
+        }
+
+        @Override
+        public Dimension divide(Dimension divisor) {
+            return null;
+        }
+
+        @Override
+        public Dimension pow(int n) {
+            return null;
+        }
+
+        @Override
+        public Dimension root(int n) {
+            return null;
+        }
+
+        @Override
+        public Map<? extends Dimension, Integer> getBaseDimensions() {
+            return bases;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || (obj instanceof Product) && bases != null && bases.equals(((Product) obj).bases);
+        }
+
+        @Override
+        public int hashCode() {
+            return (bases != null) ? bases.hashCode() : System.identityHashCode(this);
+        }
+    }
+
 }
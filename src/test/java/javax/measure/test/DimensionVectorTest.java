@@ -0,0 +1,109 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.test;
+
+import static javax.measure.DimensionVector.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.measure.DimensionVector;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DimensionVector}.
+ */
+public class DimensionVectorTest {
+    private static final long FORCE = of(-2, 1, 1);
+
+    @Test
+    public void testOf() {
+        assertEquals(-2, exponent(FORCE, TIME));
+        assertEquals(1, exponent(FORCE, LENGTH));
+        assertEquals(1, exponent(FORCE, MASS));
+        assertEquals(0, exponent(FORCE, LUMINOUS_INTENSITY));
+        assertEquals(base(LENGTH), of(0, 1));
+        assertEquals(DIMENSIONLESS, of());
+        assertThrows(ArithmeticException.class, () -> of(128));
+        assertThrows(IllegalArgumentException.class, () -> of(0, 0, 0, 0, 0, 0, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> base(BASE_COUNT));
+    }
+
+    @Test
+    public void testAlgebra() {
+        final long length = base(LENGTH);
+        final long time = base(TIME);
+        final long acceleration = divide(length, pow(time, 2));
+        assertEquals(FORCE, multiply(base(MASS), acceleration));
+        assertEquals(DIMENSIONLESS, divide(FORCE, FORCE));
+        assertEquals(length, root(pow(length, 3), 3));
+        assertEquals(UNDEFINED, root(length, 2));
+        assertThrows(ArithmeticException.class, () -> root(length, 0));
+        assertThrows(ArithmeticException.class, () -> pow(length, 200));
+    }
+
+    @Test
+    public void testUndefined() {
+        assertFalse(isDefined(UNDEFINED));
+        assertTrue(isDefined(DIMENSIONLESS));
+        assertEquals(UNDEFINED, multiply(UNDEFINED, FORCE));
+        assertEquals(UNDEFINED, divide(FORCE, UNDEFINED));
+        assertEquals(UNDEFINED, pow(UNDEFINED, 2));
+        assertThrows(IllegalArgumentException.class, () -> exponent(UNDEFINED, TIME));
+        assertEquals(UNDEFINED, TestDimension.getInstance().getExponentVector());
+    }
+
+    @Test
+    public void testHashedFingerprintIsUndefined() {
+        final long hashed = 0x1234L | Long.MIN_VALUE;
+        assertFalse(isDefined(hashed));
+        assertEquals(UNDEFINED, multiply(hashed, FORCE));
+        assertEquals(UNDEFINED, divide(FORCE, hashed));
+        assertEquals(UNDEFINED, pow(hashed, 2));
+        assertEquals(UNDEFINED, root(hashed, 1));
+        assertThrows(IllegalArgumentException.class, () -> exponent(hashed, TIME));
+        assertEquals("undefined", DimensionVector.toString(hashed));
+    }
+
+    @Test
+    public void testDivideExtremeExponents() {
+        final long min = of(-128);
+        assertEquals(DIMENSIONLESS, divide(min, min));
+        assertEquals(of(-127), divide(min, of(-1)));
+        assertThrows(ArithmeticException.class, () -> divide(min, of(1)));
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("L\u00B7M\u00B7T^-2", DimensionVector.toString(FORCE));
+        assertEquals("1", DimensionVector.toString(DIMENSIONLESS));
+        assertEquals("undefined", DimensionVector.toString(UNDEFINED));
+        assertEquals("\u0398", DimensionVector.toString(base(TEMPERATURE)));
+    }
+}
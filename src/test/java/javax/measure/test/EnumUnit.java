@@ -147,8 +147,7 @@ enum EnumUnit implements Unit {
 
     @Override
     public Unit prefix(Prefix prefix) {
-        final MultiplyConverter converter = new MultiplyConverter(
-        		Math.pow(prefix.getValue().doubleValue(), prefix.getExponent()));
+        final MultiplyConverter converter = new MultiplyConverter(prefix.getFactor());
         return this.transform(converter);
     }
 
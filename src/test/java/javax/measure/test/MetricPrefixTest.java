@@ -29,8 +29,11 @@
  */
 package javax.measure.test;
 
+import java.math.BigDecimal;
+
 import javax.measure.Quantity;
 import javax.measure.Unit;
+import javax.measure.UnitConverter;
 import javax.measure.quantity.Area;
 import javax.measure.quantity.Length;
 import javax.measure.quantity.Mass;
@@ -44,7 +47,9 @@ import javax.measure.test.quantity.VolumeQuantity;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static javax.measure.MetricPrefix.*;
 import static javax.measure.test.unit.AreaUnit.*;
@@ -58,7 +63,7 @@ import static javax.measure.test.unit.VolumeUnit.*;
  * JUnit tests for the 24 prefixes used in the metric system (decimal multiples and submultiples of units).
  * 
  * @author <a href="mailto:werner@units.tech">Werner Keil</a>
- * @version 2.2, May 9, 2023
+ * @version 2.3, October 18, 2026
  * @since 2.0
  */
 public class MetricPrefixTest {
@@ -271,4 +276,47 @@ public class MetricPrefixTest {
     private static String toUnicode(char ch) {
         return String.format("\\u%04x", (int) ch);
     }
+
+    @Test
+    public void testFactor() {
+        assertEquals(1e3, KILO.getFactor());
+        assertEquals(1e-24, YOCTO.getFactor());
+        assertEquals(1e30, QUETTA.getFactor());
+        assertEquals(0, new BigDecimal("0.001").compareTo(MILLI.getExactFactor()));
+        assertEquals(0, BigDecimal.TEN.pow(30).compareTo(QUETTA.getExactFactor()));
+    }
+
+    @Test
+    public void testRatio() {
+        assertEquals(1e-6, ratio(MILLI, KILO));
+        assertEquals(1e6, ratio(KILO, MILLI));
+        assertEquals(1, ratio(NANO, NANO));
+        assertEquals(1e60, ratio(QUETTA, QUECTO));
+        assertEquals(1e-60, ratio(QUECTO, QUETTA));
+        assertEquals(0, new BigDecimal("0.000001").compareTo(exactRatio(MILLI, KILO)));
+        assertEquals(0, BigDecimal.TEN.pow(60).compareTo(exactRatio(QUETTA, QUECTO)));
+    }
+
+    @Test
+    public void testGetConverterTo() {
+        final UnitConverter converter = MILLI.getConverterTo(KILO);
+        assertTrue(converter.isLinear());
+        assertFalse(converter.isIdentity());
+        assertEquals(0.000123, converter.convert(123.0));
+        assertEquals(123.0, converter.inverse().convert(0.000123), 1e-12);
+        assertEquals(0, new BigDecimal("0.000123").compareTo((BigDecimal) converter.convert(new BigDecimal("123"))));
+        assertTrue(KILO.getConverterTo(KILO).isIdentity());
+        assertEquals(MICRO.getConverterTo(KILO), MICRO.getConverterTo(MILLI).concatenate(MILLI.getConverterTo(KILO)));
+        assertEquals(1, MICRO.getConverterTo(MILLI).concatenate(MILLI.getConverterTo(KILO)).getConversionSteps().size());
+        assertEquals(1e33, PICO.getConverterTo(ZETTA).inverse().convert(1.0));
+    }
+
+    @Test
+    public void testGetConverterToIntegral() {
+        final long large = (1L << 53) + 1; // Not representable as a double.
+        assertEquals(Long.valueOf(large * 1000), MILLI.getConverterTo(MICRO).convert(Long.valueOf(large)));
+        assertEquals(Long.valueOf(large), MICRO.getConverterTo(MILLI).convert(Long.valueOf(large * 1000)));
+        assertEquals(0, new BigDecimal("1.5").compareTo((BigDecimal) MICRO.getConverterTo(MILLI).convert(Integer.valueOf(1500))));
+        assertEquals(0, BigDecimal.valueOf(large).scaleByPowerOfTen(15).compareTo((BigDecimal) GIGA.getConverterTo(MICRO).convert(Long.valueOf(large))));
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.measure.BinaryPrefix;
+import javax.measure.MetricPrefix;
+import javax.measure.PrefixedValue;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Time;
+import javax.measure.test.unit.DistanceUnit;
+import javax.measure.test.unit.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PrefixedValue} and the {@code forMagnitude} methods of the prefix enumerations.
+ */
+public class PrefixedValueTest {
+
+    @Test
+    public void testMetricForMagnitude() {
+        assertSame(MetricPrefix.MICRO, MetricPrefix.forMagnitude(0.000123));
+        assertSame(MetricPrefix.MILLI, MetricPrefix.forMagnitude(0.001));
+        assertSame(MetricPrefix.MICRO, MetricPrefix.forMagnitude(0.000999));
+        assertSame(MetricPrefix.KILO, MetricPrefix.forMagnitude(-1000));
+        assertSame(MetricPrefix.KILO, MetricPrefix.forMagnitude(999999));
+        assertSame(MetricPrefix.MEGA, MetricPrefix.forMagnitude(1e6));
+        assertSame(MetricPrefix.QUETTA, MetricPrefix.forMagnitude(1e40));
+        assertSame(MetricPrefix.QUECTO, MetricPrefix.forMagnitude(1e-40));
+        assertNull(MetricPrefix.forMagnitude(1));
+        assertNull(MetricPrefix.forMagnitude(999.9));
+        assertNull(MetricPrefix.forMagnitude(0));
+        assertNull(MetricPrefix.forMagnitude(Double.NaN));
+        assertNull(MetricPrefix.forMagnitude(Double.POSITIVE_INFINITY));
+        for (int i = -30; i <= 32; i++) {
+            final MetricPrefix prefix = MetricPrefix.forMagnitude(Double.parseDouble("1e" + i));
+            assertEquals(Math.floorDiv(i, 3) * 3, (prefix == null) ? 0 : prefix.getExponent(), "1e" + i);
+        }
+    }
+
+    @Test
+    public void testBinaryForMagnitude() {
+        assertNull(BinaryPrefix.forMagnitude(1023));
+        assertNull(BinaryPrefix.forMagnitude(0));
+        assertSame(BinaryPrefix.KIBI, BinaryPrefix.forMagnitude(1024));
+        assertSame(BinaryPrefix.MEBI, BinaryPrefix.forMagnitude(3 * 1024 * 1024));
+        assertSame(BinaryPrefix.YOBI, BinaryPrefix.forMagnitude(Math.pow(1024, 10)));
+    }
+
+    @Test
+    public void testOfMetric() {
+        final PrefixedValue<Time> v = PrefixedValue.ofMetric(0.000123, TimeUnit.s);
+        assertEquals(123, v.getValue(), 1e-12);
+        assertSame(MetricPrefix.MICRO, v.getPrefix());
+        assertEquals(TimeUnit.s.prefix(MetricPrefix.MICRO).toString(), v.getUnit().toString());
+
+        final PrefixedValue<Length> d = PrefixedValue.ofMetric(12.5, DistanceUnit.m);
+        assertEquals(12.5, d.getValue());
+        assertNull(d.getPrefix());
+        assertSame(DistanceUnit.m, d.getUnit());
+        assertEquals(PrefixedValue.ofMetric(12.5, DistanceUnit.m), d);
+
+        assertEquals(42, PrefixedValue.ofMetric(42e9, DistanceUnit.m).getValue());
+    }
+
+    @Test
+    public void testOfBinary() {
+        final PrefixedValue<Length> v = PrefixedValue.ofBinary(1536 * 1024, DistanceUnit.m);
+        assertEquals(1.5, v.getValue());
+        assertSame(BinaryPrefix.MEBI, v.getPrefix());
+    }
+}
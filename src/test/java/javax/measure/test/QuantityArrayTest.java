@@ -0,0 +1,119 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import javax.measure.Quantity;
+import javax.measure.QuantityArray;
+import javax.measure.quantity.Length;
+import javax.measure.test.quantity.DistanceQuantity;
+import javax.measure.test.unit.DistanceUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link QuantityArray}.
+ */
+public class QuantityArrayTest {
+
+    @Test
+    public void testOf() {
+        final double[] values = { 1, 2, 3 };
+        final QuantityArray<Length> array = QuantityArray.of(DistanceUnit.km, values);
+        values[0] = 100;
+        assertEquals(3, array.size());
+        assertEquals(1, array.doubleValue(0));
+        assertSame(DistanceUnit.km, array.getUnit());
+        assertArrayEquals(new double[] { 1, 2, 3 }, array.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> array.doubleValue(3));
+    }
+
+    @Test
+    public void testOfQuantities() {
+        final QuantityArray<Length> array = QuantityArray.of(DistanceUnit.m, Arrays.<Quantity<Length>>asList(
+                new DistanceQuantity(2, DistanceUnit.km), new DistanceQuantity(5, DistanceUnit.m)));
+        assertArrayEquals(new double[] { 2000, 5 }, array.toArray(), 1e-12);
+    }
+
+    @Test
+    public void testTo() {
+        final QuantityArray<Length> array = QuantityArray.of(DistanceUnit.km, 1, 2.5);
+        assertSame(array, array.to(DistanceUnit.km));
+        final QuantityArray<Length> metres = array.to(DistanceUnit.m);
+        assertSame(DistanceUnit.m, metres.getUnit());
+        assertArrayEquals(new double[] { 1000, 2500 }, metres.toArray(), 1e-12);
+    }
+
+    @Test
+    public void testAdd() {
+        final QuantityArray<Length> array = QuantityArray.of(DistanceUnit.km, 1, 2);
+        final QuantityArray<Length> sum = array.add(QuantityArray.of(DistanceUnit.m, 500, 250));
+        assertSame(DistanceUnit.km, sum.getUnit());
+        assertArrayEquals(new double[] { 1.5, 2.25 }, sum.toArray(), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> array.add(QuantityArray.of(DistanceUnit.km, 1)));
+    }
+
+    @Test
+    public void testMultiply() {
+        final QuantityArray<Length> product = QuantityArray.of(DistanceUnit.m, 1, -2).multiply(3);
+        assertArrayEquals(new double[] { 3, -6 }, product.toArray());
+    }
+
+    @Test
+    public void testSumMinMax() {
+        final QuantityArray<Length> array = QuantityArray.of(DistanceUnit.m, 4, -1, 7);
+        assertEquals(10, array.sum());
+        assertEquals(-1, array.min());
+        assertEquals(7, array.max());
+        assertTrue(Double.isNaN(QuantityArray.of(DistanceUnit.m, 1, Double.NaN).max()));
+    }
+
+    @Test
+    public void testEmpty() {
+        final QuantityArray<Length> array = QuantityArray.of(DistanceUnit.m);
+        assertEquals(0, array.size());
+        assertEquals(0, array.sum());
+        assertThrows(NoSuchElementException.class, array::min);
+        assertThrows(NoSuchElementException.class, array::max);
+    }
+
+    @Test
+    public void testEquals() {
+        final QuantityArray<Length> array = QuantityArray.of(DistanceUnit.m, 1, 2);
+        assertEquals(array, QuantityArray.of(DistanceUnit.m, 1, 2));
+        assertEquals(array.hashCode(), QuantityArray.of(DistanceUnit.m, 1, 2).hashCode());
+        assertNotEquals(array, QuantityArray.of(DistanceUnit.km, 1, 2));
+        assertNotEquals(array, QuantityArray.of(DistanceUnit.m, 2, 1));
+    }
+}
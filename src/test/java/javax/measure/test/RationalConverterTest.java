@@ -0,0 +1,150 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import javax.measure.BinaryPrefix;
+import javax.measure.MetricPrefix;
+import javax.measure.RationalConverter;
+import javax.measure.UnitConverter;
+import javax.measure.test.function.MultiplyConverter;
+import javax.measure.test.unit.DistanceUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RationalConverter}.
+ */
+public class RationalConverterTest {
+
+    @Test
+    public void testOf() {
+        final RationalConverter converter = RationalConverter.of(-6, -4);
+        assertEquals(BigInteger.valueOf(3), converter.getDividend());
+        assertEquals(BigInteger.valueOf(2), converter.getDivisor());
+        assertEquals(RationalConverter.of(3, 2), converter);
+        assertEquals(RationalConverter.of(-1, 2), RationalConverter.of(1, -2));
+        assertTrue(RationalConverter.of(7, 7).isIdentity());
+        assertTrue(converter.isLinear());
+        assertThrows(IllegalArgumentException.class, () -> RationalConverter.of(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> RationalConverter.of(1, 0));
+    }
+
+    @Test
+    public void testConvertInteger() {
+        final RationalConverter toMillis = RationalConverter.of(1000, 1);
+        assertEquals(Long.valueOf(5000), toMillis.convert(Integer.valueOf(5)));
+        assertEquals(Long.valueOf(5000), toMillis.convert(Long.valueOf(5)));
+        assertEquals(Long.valueOf(2), toMillis.inverse().convert(Long.valueOf(2000)));
+        assertEquals(0, new BigDecimal("2.5").compareTo((BigDecimal) toMillis.inverse().convert(Long.valueOf(2500))));
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(1000)), toMillis.convert(Long.valueOf(Long.MAX_VALUE)));
+        assertEquals(BigInteger.valueOf(3), RationalConverter.of(1, 60).convert(BigInteger.valueOf(180)));
+    }
+
+    @Test
+    public void testConvertDecimal() {
+        final RationalConverter third = RationalConverter.of(1, 3);
+        assertEquals(0, new BigDecimal("0.5").compareTo((BigDecimal) third.convert(new BigDecimal("1.5"))));
+        final BigDecimal wide = new BigDecimal("1234567890123456789012345678901234567890.123");
+        assertEquals(new BigDecimal("2469135780246913578024691357802469135780.246"), RationalConverter.of(2, 1).convert(wide));
+        assertEquals(new BigDecimal("617283945061728394506172839450617283945.0615"), RationalConverter.of(1, 2).convert(wide));
+        assertEquals(0, new BigDecimal("0.3333333333333333333333333333333333").compareTo((BigDecimal) third.convert(BigDecimal.ONE)));
+        assertEquals(1.0 / 3, third.convert(1.0));
+        assertEquals(0.5, third.convert(Double.valueOf(1.5)));
+        assertEquals(0.1, RationalConverter.of(1, 10).convert(1.0));
+        assertEquals(1.5, RationalConverter.of(3, 2).convert(1.0));
+    }
+
+    @Test
+    public void testConcatenate() {
+        final RationalConverter secondsToMinutes = RationalConverter.of(1, 60);
+        final RationalConverter minutesToHours = RationalConverter.of(1, 60);
+        assertEquals(RationalConverter.of(1, 3600), minutesToHours.concatenate(secondsToMinutes));
+        assertTrue(secondsToMinutes.concatenate(secondsToMinutes.inverse()).isIdentity());
+        final UnitConverter mixed = secondsToMinutes.concatenate(MetricPrefix.KILO.getConverterTo(MetricPrefix.MILLI));
+        assertEquals(RationalConverter.of(1_000_000, 60), mixed);
+        final UnitConverter kiloToMilli = MetricPrefix.KILO.getConverterTo(MetricPrefix.MILLI);
+        assertEquals(RationalConverter.of(1_000_000, 3), kiloToMilli.concatenate(RationalConverter.of(1, 3)));
+        assertEquals(RationalConverter.of(1_000_000, 3), RationalConverter.of(1, 3).concatenate(kiloToMilli));
+        assertEquals(RationalConverter.of(1, 3_000), RationalConverter.of(1, 3).concatenate(MetricPrefix.MICRO.getConverterTo(MetricPrefix.MILLI)));
+        assertEquals(RationalConverter.of(1024, 1_000_000),
+                MetricPrefix.MILLI.getConverterTo(MetricPrefix.KILO).concatenate(BinaryPrefix.MEBI.getConverterTo(BinaryPrefix.KIBI)));
+        final UnitConverter other = secondsToMinutes.concatenate(new MultiplyConverter(2));
+        assertEquals(2, other.getConversionSteps().size());
+        assertEquals(2.0 / 60, other.convert(1.0), 1e-15);
+        assertEquals(1.0, other.inverse().convert(other.convert(1.0)), 1e-15);
+        final RationalConverter big = RationalConverter.of(Long.MAX_VALUE, 1);
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).pow(2), ((RationalConverter) big.concatenate(big)).getDividend());
+    }
+
+    @Test
+    public void testConvertLong() {
+        final RationalConverter toMillis = RationalConverter.of(1000, 1);
+        final RationalConverter toSeconds = toMillis.inverse();
+        assertEquals(5000, toMillis.convertExact(5));
+        assertEquals(2, toSeconds.convertExact(2000));
+        assertThrows(ArithmeticException.class, () -> toSeconds.convertExact(2500));
+        assertThrows(ArithmeticException.class, () -> toMillis.convertExact(Long.MAX_VALUE));
+        assertEquals(3, toSeconds.convert(2500, RoundingMode.HALF_UP));
+        assertEquals(2, toSeconds.convert(2500, RoundingMode.HALF_EVEN));
+        assertEquals(2, toSeconds.convert(2500, RoundingMode.HALF_DOWN));
+        assertEquals(-3, toSeconds.convert(-2500, RoundingMode.HALF_UP));
+        assertEquals(-3, toSeconds.convert(-2001, RoundingMode.FLOOR));
+        assertEquals(-2, toSeconds.convert(-2999, RoundingMode.CEILING));
+        assertEquals(-2, toSeconds.convert(-2999, RoundingMode.DOWN));
+        assertEquals(3, toSeconds.convert(2001, RoundingMode.UP));
+        assertEquals(3, toSeconds.convert(2501, RoundingMode.HALF_DOWN));
+        // Intermediate overflow with a result which fits in a long.
+        assertEquals(Long.MAX_VALUE / 3 * 2, RationalConverter.of(2, 3).convertExact(Long.MAX_VALUE / 3 * 3));
+        // Exact beyond the precision of double.
+        assertEquals(9007199254740993L, RationalConverter.of(3, 1).convertExact(3002399751580331L));
+    }
+
+    @Test
+    public void testPrefixConvertLong() {
+        assertEquals(5_000_000, MetricPrefix.KILO.getConverterTo(MetricPrefix.MILLI).convertExact(5));
+        assertEquals(2, MetricPrefix.MILLI.getConverterTo(MetricPrefix.KILO).convert(2_500_000, RoundingMode.HALF_EVEN));
+        assertEquals(3 * 1024, BinaryPrefix.MEBI.getConverterTo(BinaryPrefix.KIBI).convertExact(3));
+        assertThrows(ArithmeticException.class, () -> MetricPrefix.EXA.getConverterTo(MetricPrefix.MILLI).convertExact(100));
+    }
+
+    @Test
+    public void testDefaultConvertLong() {
+        final UnitConverter converter = DistanceUnit.km.getConverterTo(DistanceUnit.m);
+        assertEquals(3000, converter.convertExact(3));
+        assertEquals(0, converter.inverse().convert(499, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> converter.inverse().convertExact(499));
+    }
+}
@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import javax.measure.UnitConverter;
+import javax.measure.test.function.MultiplyConverter;
 
 /**
  * <p>
@@ -40,7 +41,7 @@ import javax.measure.UnitConverter;
  * </p>
  *
  * @author <a href="mailto:werner@uom.technology">Werner Keil</a>
- * @version 0.8.1, $Date: 2016-02-11 $
+ * @version 0.9, $Date: 2026-10-18 $
  */
 public abstract class TestConverter implements UnitConverter {
 
@@ -63,8 +64,8 @@ public abstract class TestConverter implements UnitConverter {
      *          the other converter.
      * @return the concatenation of this converter with that converter.
      */
-    public TestConverter concatenate(TestConverter that) {
-        return (IDENTITY.equals(that)) ? this : new Pair(this, that);
+    public UnitConverter concatenate(TestConverter that) {
+        return concatenate((UnitConverter) that);
     }
 
     public boolean isIdentity() {
@@ -82,7 +83,52 @@ public abstract class TestConverter implements UnitConverter {
 
     @Override
     public UnitConverter concatenate(UnitConverter converter) {
-        return (IDENTITY.equals(converter)) ? this : new Pair(this, converter);
+        return normalize(this, converter);
+    }
+
+    /**
+     * Returns the simplest converter equivalent to first converting by the right converter, and then converting by the left converter. The
+     * conversion steps of both converters are flattened, identity steps are dropped and consecutive {@link MultiplyConverter}s are folded
+     * into a single one, so that deep concatenations of scale factors cost a single multiplication. Other steps, including exact linear
+     * converters such as {@link javax.measure.RationalConverter}, are kept as they are.
+     *
+     * @param left
+     *          the converter to apply last.
+     * @param right
+     *          the converter to apply first.
+     * @return the normalized concatenation of the two converters.
+     */
+    protected static UnitConverter normalize(UnitConverter left, UnitConverter right) {
+        final List<UnitConverter> steps = new ArrayList<UnitConverter>();
+        steps.addAll(left.getConversionSteps());
+        steps.addAll(right.getConversionSteps());
+        final List<UnitConverter> folded = new ArrayList<UnitConverter>(steps.size());
+        double factor = 1.0;
+        for (UnitConverter step : steps) {
+            if (step.isIdentity()) {
+                continue;
+            }
+            if (step instanceof MultiplyConverter) {
+                factor *= ((MultiplyConverter) step).getFactor();
+            } else {
+                if (factor != 1.0) {
+                    folded.add(new MultiplyConverter(factor));
+                }
+                factor = 1.0;
+                folded.add(step);
+            }
+        }
+        if (factor != 1.0) {
+            folded.add(new MultiplyConverter(factor));
+        }
+        if (folded.isEmpty()) {
+            return IDENTITY;
+        }
+        UnitConverter result = folded.get(folded.size() - 1);
+        for (int i = folded.size() - 2; i >= 0; i--) {
+            result = new Pair(folded.get(i), result);
+        }
+        return result;
     }
 
     @Override
@@ -106,6 +152,20 @@ public abstract class TestConverter implements UnitConverter {
 
     public abstract double convert(double value);
 
+    /**
+     * Checks that the given regions are inside the bounds of their arrays, as required by
+     * {@link UnitConverter#convert(double[], int, double[], int, int)}.
+     *
+     * @throws IndexOutOfBoundsException
+     *           if a region is outside the bounds of its array.
+     */
+    protected static void checkRegion(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        if (len < 0 || srcOff < 0 || dstOff < 0 || srcOff > src.length - len || dstOff > dst.length - len) {
+            throw new IndexOutOfBoundsException("Invalid region of " + len + " values at source offset " + srcOff
+                    + " and destination offset " + dstOff);
+        }
+    }
+
     /**
      * This class represents the identity converter (singleton).
      */
@@ -126,6 +186,11 @@ public abstract class TestConverter implements UnitConverter {
             return value;
         }
 
+        @Override
+        public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+            System.arraycopy(src, srcOff, dst, dstOff, len);
+        }
+
         @Override
         public UnitConverter concatenate(UnitConverter converter) {
             return converter;
@@ -205,6 +270,12 @@ public abstract class TestConverter implements UnitConverter {
             return left.convert(right.convert(value));
         }
 
+        @Override
+        public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+            right.convert(src, srcOff, dst, dstOff, len);
+            left.convert(dst, dstOff, dst, dstOff, len);
+        }
+
         @Override
         public boolean equals(Object cvtr) {
             if (this == cvtr)
@@ -179,7 +179,10 @@ public abstract class TestUnit<Q extends Quantity<Q>> implements Unit<Q> {
      * @see #getSystemUnit
      */
     public UnitConverter getSystemConverter() throws UnsupportedOperationException {
-        return TestConverter.IDENTITY;
+        if (multFactor == null || multFactor.signum() == 0 || multFactor.compareTo(BigDecimal.ONE) == 0) {
+            return TestConverter.IDENTITY;
+        }
+        return new MultiplyConverter(multFactor.doubleValue());
     }
 
     public Unit<Q> transform(UnitConverter operation) {
@@ -193,8 +196,7 @@ public abstract class TestUnit<Q extends Quantity<Q>> implements Unit<Q> {
 
     @Override
     public Unit<Q> prefix(Prefix prefix) {
-        final MultiplyConverter converter = new MultiplyConverter(
-        		Math.pow(prefix.getValue().doubleValue(), prefix.getExponent()));
+        final MultiplyConverter converter = new MultiplyConverter(prefix.getFactor());
         return this.transform(converter);
     }
 
@@ -83,6 +83,14 @@ public class UnitTest {
     public void testIsCompatible() {
         assertTrue(sut.isCompatible(TEST));
     }
+
+    /**
+     * Test method for {@link javax.measure.Unit#getDimensionFingerprint()}.
+     */
+    @Test
+    public void testGetDimensionFingerprint() {
+        assertEquals(sut.getDimension().getFingerprint(), sut.getDimensionFingerprint());
+    }
     
     /**
      * Test method for {@link javax.measure.test.EnumUnit#isEquivalentTo(javax.measure.Unit)}.
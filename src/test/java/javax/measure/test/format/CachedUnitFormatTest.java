@@ -0,0 +1,167 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.test.format;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.text.ParsePosition;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.measure.Unit;
+import javax.measure.format.CachedUnitFormat;
+import javax.measure.format.MeasurementParseException;
+import javax.measure.format.UnitFormat;
+import javax.measure.test.unit.BaseUnit;
+import javax.measure.test.unit.DistanceUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CachedUnitFormat}.
+ */
+public class CachedUnitFormatTest {
+
+    @Test
+    public void testParseCached() {
+        final CountingFormat counting = new CountingFormat();
+        final CachedUnitFormat format = new CachedUnitFormat(counting);
+        final Unit<?> unit = format.parse("kg");
+        assertSame(unit, format.parse(new StringBuilder("kg")));
+        assertEquals(1, counting.parseCount);
+        assertNotSame(unit, format.parse("m"));
+        assertEquals(2, counting.parseCount);
+    }
+
+    @Test
+    public void testParsePositionNotCached() {
+        final CountingFormat counting = new CountingFormat();
+        final CachedUnitFormat format = new CachedUnitFormat(counting);
+        format.parse("m", new ParsePosition(0));
+        format.parse("m", new ParsePosition(0));
+        assertEquals(2, counting.parseCount);
+    }
+
+    @Test
+    public void testLabelClearsCache() {
+        final CountingFormat counting = new CountingFormat();
+        final CachedUnitFormat format = new CachedUnitFormat(counting);
+        final Unit<?> unit = format.parse("m");
+        format.label(DistanceUnit.m, "m");
+        assertNotSame(unit, format.parse("m"));
+        assertEquals(2, counting.parseCount);
+    }
+
+    @Test
+    public void testParseErrorNotCached() {
+        final CachedUnitFormat format = new CachedUnitFormat(SimpleTestUnitFormat.newInstance());
+        assertThrows(MeasurementParseException.class, () -> format.parse("bl//^--1a"));
+        assertSame(DistanceUnit.m, format.parse("m"));
+    }
+
+    @Test
+    public void testFormatCached() throws IOException {
+        final CountingFormat counting = new CountingFormat();
+        final CachedUnitFormat format = new CachedUnitFormat(counting);
+        final String text = format.format(DistanceUnit.km);
+        assertEquals("km", text);
+        assertSame(text, format.format(DistanceUnit.km));
+        assertEquals("x=km", format.format(DistanceUnit.km, new StringBuilder("x=")).toString());
+        assertEquals(1, counting.formatCount);
+        format.label(DistanceUnit.km, "kilometre");
+        assertEquals("kilometre", format.format(DistanceUnit.km));
+        assertEquals(2, counting.formatCount);
+    }
+
+    @Test
+    public void testSnapshot() {
+        assertThrows(UnsupportedOperationException.class, () -> new CachedUnitFormat(new CountingFormat()).snapshot());
+        final UnitFormat snapshot = new CachedUnitFormat(SimpleTestUnitFormat.newInstance()).snapshot();
+        assertTrue(snapshot instanceof CachedUnitFormat);
+        assertSame(snapshot, snapshot.snapshot());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.label(DistanceUnit.km, "km"));
+        assertSame(DistanceUnit.m, snapshot.parse("m"));
+    }
+
+    @Test
+    public void testBounded() {
+        final CountingFormat counting = new CountingFormat();
+        final CachedUnitFormat format = new CachedUnitFormat(counting, 4);
+        assertEquals(4, format.getCapacity());
+        for (int i = 0; i < 20; i++) {
+            format.parse("u" + i);
+        }
+        format.parse("u0");
+        assertEquals(21, counting.parseCount);
+        assertThrows(IllegalArgumentException.class, () -> new CachedUnitFormat(counting, 0));
+    }
+
+    /**
+     * A format creating a new unit for each parsing, and counting the number of parsings.
+     */
+    private static final class CountingFormat implements UnitFormat {
+        int parseCount, formatCount;
+        final Map<Unit<?>, String> labels = new HashMap<>();
+
+        @Override
+        public Appendable format(Unit<?> unit, Appendable appendable) throws IOException {
+            formatCount++;
+            final String label = labels.get(unit);
+            return appendable.append(label != null ? label : unit.getSymbol());
+        }
+
+        @Override
+        public String format(Unit<?> unit) {
+            try {
+                return format(unit, new StringBuilder()).toString();
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        @Override
+        public void label(Unit<?> unit, String label) {
+            labels.put(unit, label);
+        }
+
+        @Override
+        public Unit<?> parse(CharSequence csq, ParsePosition pos) {
+            parseCount++;
+            pos.setIndex(csq.length());
+            return new BaseUnit<>(csq.toString());
+        }
+
+        @Override
+        public Unit<?> parse(CharSequence csq) {
+            return parse(csq, new ParsePosition(0));
+        }
+    }
+}
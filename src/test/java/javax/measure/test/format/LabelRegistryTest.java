@@ -0,0 +1,107 @@
+/*
+ * Units of Measurement API
+ * Copyright (c) 2014-2025, Jean-Marie Dautelle, Werner Keil, Otavio Santana.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of JSR-385 nor the names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO,
+ * THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.measure.test.format;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.measure.Unit;
+import javax.measure.format.LabelRegistry;
+import javax.measure.test.unit.BaseUnit;
+import javax.measure.test.unit.DistanceUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LabelRegistry}.
+ */
+public class LabelRegistryTest {
+
+    @Test
+    public void testLabel() {
+        final LabelRegistry registry = new LabelRegistry();
+        registry.label(DistanceUnit.km, "km");
+        assertEquals("km", registry.getLabel(DistanceUnit.km));
+        assertSame(DistanceUnit.km, registry.getUnit(new StringBuilder("km")));
+        assertNull(registry.getLabel(DistanceUnit.m));
+        assertNull(registry.getUnit("m"));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testRelabel() {
+        final LabelRegistry registry = new LabelRegistry();
+        registry.label(DistanceUnit.km, "km");
+        registry.label(DistanceUnit.km, "kilometre");
+        assertEquals("kilometre", registry.getLabel(DistanceUnit.km));
+        assertNull(registry.getUnit("km"));
+        registry.label(DistanceUnit.m, "kilometre");
+        assertNull(registry.getLabel(DistanceUnit.km));
+        assertSame(DistanceUnit.m, registry.getUnit("kilometre"));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testSnapshots() {
+        final LabelRegistry registry = new LabelRegistry();
+        registry.label(DistanceUnit.m, "m");
+        final Map<Unit<?>, String> map = registry.asMap();
+        final LabelRegistry copy = registry.copy();
+        registry.label(DistanceUnit.km, "km");
+        copy.label(DistanceUnit.cm, "cm");
+        assertEquals(1, map.size());
+        assertNull(copy.getLabel(DistanceUnit.km));
+        assertNull(registry.getLabel(DistanceUnit.cm));
+        assertThrows(UnsupportedOperationException.class, () -> map.clear());
+    }
+
+    @Test
+    public void testConcurrentLabels() throws InterruptedException {
+        final LabelRegistry registry = new LabelRegistry();
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final int offset = t * 100;
+            threads.add(new Thread(() -> {
+                for (int i = offset; i < offset + 100; i++) {
+                    registry.label(new BaseUnit<>("u" + i), "u" + i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(400, registry.size());
+        assertEquals("u123", registry.getUnit("u123").getSymbol());
+    }
+}
@@ -31,7 +31,15 @@ package javax.measure.test.format;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import javax.measure.Quantity;
+import javax.measure.Unit;
 import javax.measure.format.MeasurementParseException;
 import javax.measure.format.QuantityFormat;
 import javax.measure.quantity.Length;
@@ -97,6 +105,100 @@ public class QuantityFormatTest {
         assertNull(pe.getParsedString());
     }
 
+    @Test
+    public void testParseReadable() throws IOException {
+        final List<Quantity<?>> quantities = new ArrayList<>();
+        format.parse(new StringReader("1 m\r\n\n  2.5 m  \r3 m\r\n4 m"), quantities::add);
+        assertEquals(4, quantities.size());
+        assertEquals(1d, quantities.get(0).doubleValue());
+        assertEquals(2.5, quantities.get(1).doubleValue());
+        assertEquals(3d, quantities.get(2).doubleValue());
+        assertEquals(4d, quantities.get(3).doubleValue());
+        assertEquals("m", quantities.get(3).getUnit().getSymbol());
+    }
+
+    @Test
+    public void testParseReadableLongLine() throws IOException {
+        final String padding = String.join("", Collections.nCopies(20000, " "));
+        final List<Quantity<?>> quantities = new ArrayList<>();
+        format.parse(new StringReader("5 m\n" + padding + "6 m" + padding + "\n7 m\n"), quantities::add);
+        assertEquals(3, quantities.size());
+        assertEquals(6d, quantities.get(1).doubleValue());
+    }
+
+    @Test
+    public void testParseReadableError() {
+        MeasurementParseException pe = assertThrows(MeasurementParseException.class,
+                () -> format.parse(new StringReader("1 m\n2 m x\n"), q -> {}));
+        assertTrue(pe.getMessage().startsWith("Line 2"));
+        assertEquals("2 m x", pe.getParsedString());
+        assertEquals(4, pe.getPosition());
+        pe = assertThrows(MeasurementParseException.class, () -> format.parse(new StringReader("\nabc m"), q -> {}));
+        assertTrue(pe.getMessage().startsWith("Line 2"));
+        assertEquals("abc m", pe.getParsedString());
+        assertEquals(0, pe.getPosition());
+    }
+
+    @Test
+    public void testParseToConsumer() {
+        final String text = "12.5 m  -3 m 1e3 m 0.000001 m";
+        final ParsePosition pos = new ParsePosition(0);
+        final double[] values = new double[4];
+        final List<Unit<?>> units = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            final int n = i;
+            format.parse(text, pos, (unit, value) -> {
+                units.add(unit);
+                values[n] = value;
+            });
+        }
+        assertArrayEquals(new double[] { 12.5, -3, 1000, 0.000001 }, values);
+        assertEquals(text.length(), pos.getIndex());
+        assertEquals("m", units.get(0).getSymbol());
+        assertSame(units.get(0), units.get(3));
+    }
+
+    @Test
+    public void testParseToConsumerError() {
+        final ParsePosition pos = new ParsePosition(0);
+        MeasurementParseException pe = assertThrows(MeasurementParseException.class,
+                () -> format.parse(" x1 m", pos, (unit, value) -> fail("Should not be invoked.")));
+        assertEquals(1, pe.getPosition());
+        assertEquals(1, pos.getErrorIndex());
+        assertEquals(0, pos.getIndex());
+    }
+
+    @Test
+    public void testParseToConsumerAfterRelabel() {
+        final SimpleTestUnitFormat unitFormat = SimpleTestUnitFormat.newInstance();
+        final QuantityFormat relabeled = SimpleTestQuantityFormat.getInstance(unitFormat);
+        unitFormat.label(DistanceUnit.km, "u");
+        final List<Unit<?>> units = new ArrayList<>();
+        relabeled.parse("1 u", new ParsePosition(0), (unit, value) -> units.add(unit));
+        unitFormat.label(DistanceUnit.mile, "u");
+        relabeled.parse("1 u", new ParsePosition(0), (unit, value) -> units.add(unit));
+        assertSame(DistanceUnit.km, units.get(0));
+        assertSame(DistanceUnit.mile, units.get(1));
+    }
+
+    @Test
+    public void testParseToConsumerRejectsJavaLiterals() {
+        for (final String text : new String[] { "1d m", "1f m", "0x1p3 m", "NaN m", "Infinity m" }) {
+            assertThrows(MeasurementParseException.class, () -> format.parse(text, new ParsePosition(0), (unit, value) -> fail(text)), text);
+        }
+        final double[] value = new double[1];
+        format.parse("1.25E2 m", new ParsePosition(0), (unit, v) -> value[0] = v);
+        assertEquals(125, value[0]);
+    }
+
+    @Test
+    public void testSnapshot() {
+        final QuantityFormat snapshot = format.snapshot();
+        assertNotSame(format, snapshot);
+        assertSame(snapshot, snapshot.snapshot());
+        assertEquals(1d, snapshot.parse("1 m").doubleValue());
+    }
+
     @Test
     public void testLocalSensitive() {
         assertFalse(format.isLocaleSensitive());
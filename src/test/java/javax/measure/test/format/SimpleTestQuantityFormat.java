@@ -32,20 +32,36 @@ package javax.measure.test.format;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.text.ParsePosition;
+import java.util.function.ObjDoubleConsumer;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.format.MeasurementParseException;
 import javax.measure.format.QuantityFormat;
+import javax.measure.format.UnitFormat;
 import javax.measure.test.TestUnit;
 import javax.measure.test.quantity.TestQuantities;
 
 /**
  * Holds a simple standard implementation
- * @version 1.0
+ * @version 1.2, October 18, 2026
  */
 @SuppressWarnings("rawtypes")
 class SimpleTestQuantityFormat extends TestQuantityFormat {
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /** The format to use for units. */
+    private final UnitFormat unitFormat;
+
+    /** The last parsed unit together with its symbol and the label count at parsing time, or {@code null} if none. */
+    private volatile ParsedUnit lastUnit;
+
+    private SimpleTestQuantityFormat(UnitFormat unitFormat) {
+        this.unitFormat = unitFormat;
+    }
 
     /**
      * Returns the Quantity format for the default locale.
@@ -53,7 +69,24 @@ class SimpleTestQuantityFormat extends TestQuantityFormat {
      * @return the locale format.
      */
     public static QuantityFormat getInstance() {
-        return new SimpleTestQuantityFormat();
+        return new SimpleTestQuantityFormat(SimpleTestUnitFormat.getInstance());
+    }
+
+    /**
+     * Returns a Quantity format using the given unit format.
+     *
+     * @param unitFormat
+     *          the format to use for units.
+     * @return the Quantity format.
+     */
+    static QuantityFormat getInstance(UnitFormat unitFormat) {
+        return new SimpleTestQuantityFormat(unitFormat);
+    }
+
+    @Override
+    public QuantityFormat snapshot() {
+        final UnitFormat frozen = unitFormat.snapshot();
+        return (frozen == unitFormat) ? this : new SimpleTestQuantityFormat(frozen);
     }
 
     @Override
@@ -64,26 +97,132 @@ class SimpleTestQuantityFormat extends TestQuantityFormat {
         if (measure.getUnit().equals(TestUnit.ONE))
             return dest;
         dest.append(' ');
-        return SimpleTestUnitFormat.getInstance().format(unit, dest);
+        return unitFormat.format(unit, dest);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public Quantity<?> parse(CharSequence csq, ParsePosition pos) throws MeasurementParseException {
-        int startDecimal = pos.getIndex();
-        while ((startDecimal < csq.length()) && Character.isWhitespace(csq.charAt(startDecimal))) {
-            startDecimal++;
-        }
-        int endDecimal = startDecimal + 1;
-        while ((endDecimal < csq.length()) && !Character.isWhitespace(csq.charAt(endDecimal))) {
-            endDecimal++;
+        final int startDecimal = skipWhitespaces(csq, pos.getIndex());
+        final int endDecimal = skipToken(csq, startDecimal);
+        final int startUnit = skipWhitespaces(csq, endDecimal);
+        final int endUnit = skipToken(csq, startUnit);
+        final BigDecimal decimal;
+        try {
+            decimal = new BigDecimal(csq.subSequence(startDecimal, endDecimal).toString());
+        } catch (NumberFormatException nfe) {
+            pos.setErrorIndex(startDecimal);
+            throw new MeasurementParseException("Invalid number", csq, startDecimal);
         }
-        BigDecimal decimal = new BigDecimal(csq.subSequence(startDecimal, endDecimal).toString());
-        pos.setIndex(endDecimal + 1);
-        Unit unit = SimpleTestUnitFormat.getInstance().parse(csq);
+        Unit unit = unitFormat.parse(csq.subSequence(startUnit, endUnit).toString());
+        pos.setIndex(endUnit);
         return TestQuantities.getQuantity(decimal, unit);
     }
 
+    @Override
+    public void parse(CharSequence csq, ParsePosition pos, ObjDoubleConsumer<? super Unit<?>> action) throws MeasurementParseException {
+        final int startDecimal = skipWhitespaces(csq, pos.getIndex());
+        final int endDecimal = skipToken(csq, startDecimal);
+        final int startUnit = skipWhitespaces(csq, endDecimal);
+        final int endUnit = skipToken(csq, startUnit);
+        final double value = parseDouble(csq, startDecimal, endDecimal, pos);
+        final Unit<?> unit = parseUnit(csq, startUnit, endUnit);
+        pos.setIndex(endUnit);
+        action.accept(unit, value);
+    }
+
+    /**
+     * Parses a decimal number without creating a string when it has at most 15 significant digits and no exponent.
+     * In that case the mantissa and the power of 10 are both exact {@code double}s, so the division is correctly rounded.
+     * Other numbers fall back on {@link BigDecimal}, which accepts the same plain decimal syntax with an optional exponent
+     * and rejects Java-specific forms such as {@code "1d"}, hexadecimal floats, {@code "NaN"} or {@code "Infinity"}.
+     */
+    private static double parseDouble(CharSequence csq, int start, int end, ParsePosition pos) {
+        int i = start;
+        final boolean negative = (i < end) && csq.charAt(i) == '-';
+        if (negative || ((i < end) && csq.charAt(i) == '+')) {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        boolean hasDigit = false;
+        for (; i < end; i++) {
+            final char c = csq.charAt(i);
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                hasDigit = true;
+                if (mantissa != 0) digits++;
+                if (scale >= 0) scale++;
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                break;
+            }
+        }
+        if (i == end && hasDigit && digits <= 15 && scale < POWERS_OF_TEN.length) {
+            final double value = (scale > 0) ? mantissa / POWERS_OF_TEN[scale] : mantissa;
+            return negative ? -value : value;
+        }
+        try {
+            return new BigDecimal(csq.subSequence(start, end).toString()).doubleValue();
+        } catch (NumberFormatException nfe) {
+            pos.setErrorIndex(start);
+            throw new MeasurementParseException("Invalid number", csq, start);
+        }
+    }
+
+    /**
+     * Returns the unit for the given symbol, reusing the previous result if the symbol and the labels did not change.
+     * The result is not cached if the unit format does not report label changes.
+     */
+    private Unit<?> parseUnit(CharSequence csq, int start, int end) {
+        final int labelCount = (unitFormat instanceof SimpleTestUnitFormat) ? ((SimpleTestUnitFormat) unitFormat).getLabelCount() : -1;
+        final ParsedUnit last = lastUnit;
+        if (last != null && labelCount >= 0 && last.labelCount == labelCount && last.symbol.length() == end - start) {
+            int i = 0;
+            while (i < last.symbol.length() && last.symbol.charAt(i) == csq.charAt(start + i)) {
+                i++;
+            }
+            if (i == last.symbol.length()) {
+                return last.unit;
+            }
+        }
+        final String text = csq.subSequence(start, end).toString();
+        final Unit<?> unit = unitFormat.parse(text);
+        if (labelCount >= 0) {
+            lastUnit = new ParsedUnit(text, unit, labelCount);
+        }
+        return unit;
+    }
+
+    /** A unit together with the symbol from which it was parsed and the label count at that time. */
+    private static final class ParsedUnit {
+        final String symbol;
+        final Unit<?> unit;
+        final int labelCount;
+
+        ParsedUnit(String symbol, Unit<?> unit, int labelCount) {
+            this.symbol = symbol;
+            this.unit = unit;
+            this.labelCount = labelCount;
+        }
+    }
+
+    private static int skipWhitespaces(CharSequence csq, int i) {
+        while ((i < csq.length()) && Character.isWhitespace(csq.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipToken(CharSequence csq, int i) {
+        while ((i < csq.length()) && !Character.isWhitespace(csq.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public Quantity<?> parse(CharSequence csq, int index) throws MeasurementParseException {
@@ -98,7 +237,7 @@ class SimpleTestQuantityFormat extends TestQuantityFormat {
         try {
             final Double decimal = new Double(csq.subSequence(startDecimal, endDecimal).toString());
             final String uStr = csq.subSequence(endDecimal + 1, csq.length()).toString();
-            Unit unit = SimpleTestUnitFormat.getInstance().parse(uStr);
+            Unit unit = unitFormat.parse(uStr);
             return TestQuantities.getQuantity(decimal, unit);
         } catch (NumberFormatException nfe) {
             throw new MeasurementParseException(nfe);
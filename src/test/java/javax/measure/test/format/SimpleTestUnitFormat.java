@@ -30,20 +30,27 @@
 package javax.measure.test.format;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.measure.Unit;
+import javax.measure.format.LabelRegistry;
+import javax.measure.format.MeasurementParseException;
 import javax.measure.format.UnitFormat;
 
 /**
  * Provides a simple interface for formatting and parsing {@linkplain Unit units}.
  *
  * @author <a href="mailto:werner@uom.technology">Werner Keil</a>
- * @version 1.0, February 13, 2021
+ * @version 1.3, October 18, 2026
  */
 public class SimpleTestUnitFormat extends TestUnitFormat {
-    private final Map<String, String> symbolMap = new HashMap<>();
+    private final LabelRegistry symbolMap;
+
+    /** Whether this format is an immutable snapshot. */
+    private final boolean frozen;
+
+    /** Number of calls to {@link #label(Unit, String)}, for invalidating caches of parsed units. */
+    private final AtomicInteger labelCount = new AtomicInteger();
 
     private static final TestUnitFormat DEFAULT = new SimpleTestUnitFormat();
 
@@ -59,6 +66,15 @@ public class SimpleTestUnitFormat extends TestUnitFormat {
         return DEFAULT;
     }
 
+    /**
+     * Returns a new instance with no labels, for tests which modify labels without affecting the shared instance.
+     *
+     * @return a new format
+     */
+    static SimpleTestUnitFormat newInstance() {
+        return new SimpleTestUnitFormat();
+    }
+
     // ////////////////
     // Constructors //
     // ////////////////
@@ -66,6 +82,12 @@ public class SimpleTestUnitFormat extends TestUnitFormat {
      * Base constructor.
      */
     private SimpleTestUnitFormat() {
+        this(new LabelRegistry(), false);
+    }
+
+    private SimpleTestUnitFormat(LabelRegistry symbolMap, boolean frozen) {
+        this.symbolMap = symbolMap;
+        this.frozen = frozen;
     }
 
     // //////////////
@@ -73,8 +95,7 @@ public class SimpleTestUnitFormat extends TestUnitFormat {
     // //////////////
     public Appendable format(final Unit<?> unit, final Appendable appendable) throws IOException {
         CharSequence symbol;
-        @SuppressWarnings("unlikely-arg-type")
-        String mapSymbol = symbolMap.get(unit);
+        String mapSymbol = symbolMap.getLabel(unit);
         if (mapSymbol != null) {
             symbol = mapSymbol;
         } else {
@@ -87,5 +108,31 @@ public class SimpleTestUnitFormat extends TestUnitFormat {
     }
 
     public void label(Unit<?> unit, String label) {
+        if (frozen) {
+            throw new UnsupportedOperationException("Immutable format snapshot");
+        }
+        symbolMap.label(unit, label);
+        labelCount.incrementAndGet();
+    }
+
+    /**
+     * Returns a counter incremented after each change of labels. A unit parsed while this method returned a given value
+     * remains valid as long as this method returns the same value.
+     *
+     * @return the number of label changes so far.
+     */
+    int getLabelCount() {
+        return labelCount.get();
+    }
+
+    @Override
+    public UnitFormat snapshot() {
+        return frozen ? this : new SimpleTestUnitFormat(symbolMap.copy(), true);
+    }
+
+    @Override
+    protected Unit<?> parse(CharSequence csq, int index) throws MeasurementParseException {
+        final Unit<?> unit = symbolMap.getUnit(csq.subSequence(index, csq.length()));
+        return (unit != null) ? unit : super.parse(csq, index);
     }
 }
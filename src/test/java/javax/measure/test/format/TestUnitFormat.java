@@ -62,6 +62,9 @@ abstract class TestUnitFormat implements UnitFormat {
      * Holds the unique symbols collection.
      */
     private static final Map<String, Unit<?>> SYMBOL_TO_UNIT = new HashMap<>();
+    static {
+        SYMBOL_TO_UNIT.put("m", DistanceUnit.m);
+    }
 
     /**
      * Returns the unit format for the default locale.
@@ -76,7 +79,6 @@ abstract class TestUnitFormat implements UnitFormat {
      * Base constructor.
      */
     protected TestUnitFormat() {
-        SYMBOL_TO_UNIT.put("m", DistanceUnit.m);
     }
 
     /**
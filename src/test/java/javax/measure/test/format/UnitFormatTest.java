@@ -40,6 +40,7 @@ import javax.measure.format.UnitFormat;
 import javax.measure.quantity.Length;
 import javax.measure.quantity.Speed;
 import javax.measure.test.quantity.DistanceQuantity;
+import javax.measure.test.unit.BaseUnit;
 import javax.measure.test.unit.DistanceUnit;
 import javax.measure.test.unit.SpeedUnit;
 import javax.measure.test.unit.TimeUnit;
@@ -139,6 +140,20 @@ public class UnitFormatTest {
         assertFalse(format.isLocaleSensitive());
     }
 
+    @Test
+    public void testSnapshot() {
+        final Unit<?> unit = new BaseUnit<>("snapshotTest");
+        final UnitFormat labeled = SimpleTestUnitFormat.newInstance(); // Do not modify the shared instance.
+        final UnitFormat snapshot = labeled.snapshot();
+        assertSame(snapshot, snapshot.snapshot());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.label(unit, "snap"));
+        labeled.label(unit, "snap");
+        assertEquals("snap", labeled.format(unit));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.format(unit));
+        assertEquals("snap", labeled.snapshot().format(unit));
+        assertSame(DistanceUnit.m, snapshot.parse("m"));
+    }
+
     @Test
     public void testMoreLocalSensitive() {
         final UnitFormat simple = SimpleTestUnitFormat.getInstance();
@@ -32,6 +32,9 @@ package javax.measure.test.function;
 import javax.measure.UnitConverter;
 import javax.measure.test.TestConverter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Objects;
 
 /**
@@ -41,11 +44,24 @@ import java.util.Objects;
  *
  * @author <a href="mailto:jean-marie@dautelle.com">Jean-Marie Dautelle</a>
  * @author <a href="mailto:werner@uom.technology">Werner Keil</a>
- * @version 1.1, June 28, 2019
+ * @version 1.2, October 18, 2026
  * @since 2.0
  */
 public final class MultiplyConverter extends TestConverter implements Comparable<UnitConverter> {
 
+    /**
+     * Handle to {@link #multiply(double, double)}.
+     */
+    private static final MethodHandle MULTIPLY;
+    static {
+        try {
+            MULTIPLY = MethodHandles.lookup().findStatic(MultiplyConverter.class, "multiply",
+                    MethodType.methodType(double.class, double.class, double.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     /**
      * Holds the scale factor.
      */
@@ -86,14 +102,6 @@ public final class MultiplyConverter extends TestConverter implements Comparable
         return factor;
     }
 
-    @Override
-    public UnitConverter concatenate(UnitConverter converter) {
-        if (!(converter instanceof MultiplyConverter))
-            return super.concatenate(converter);
-        double newfactor = factor * ((MultiplyConverter) converter).factor;
-        return newfactor == 1.0 ? IDENTITY : new MultiplyConverter(newfactor);
-    }
-
     @Override
     public MultiplyConverter inverse() {
         return new MultiplyConverter(1.0 / factor);
@@ -104,6 +112,27 @@ public final class MultiplyConverter extends TestConverter implements Comparable
         return value * factor;
     }
 
+    @Override
+    public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len) {
+        checkRegion(src, srcOff, dst, dstOff, len);
+        final double f = factor;
+        for (int i = 0; i < len; i++) {
+            dst[dstOff + i] = src[srcOff + i] * f;
+        }
+    }
+
+    /**
+     * Returns a handle multiplying its argument by the scale factor, which is inserted as a constant.
+     */
+    @Override
+    public MethodHandle asMethodHandle() {
+        return MethodHandles.insertArguments(MULTIPLY, 1, factor);
+    }
+
+    private static double multiply(double value, double factor) {
+        return value * factor;
+    }
+
     @Override
     public final String toString() {
         return MultiplyConverter.class.getSimpleName() + "(" + factor + ")";
@@ -152,6 +152,12 @@ public class DistanceQuantityTest {
         assertEquals(distance.negate().getValue(), -distance.getValue().doubleValue());
     }
 
+    @Test
+    public void testDoubleValue() {
+        assertEquals(100d, distance.doubleValue());
+        assertEquals(distance.getValue().doubleValue(), distance.negate().doubleValue() * -1);
+    }
+
     @Test
     public void testAbsolute() {
         assertEquals(Quantity.Scale.ABSOLUTE, distance.getScale());
@@ -127,7 +127,7 @@ public abstract class TestQuantity<Q extends Quantity<Q>> implements Quantity<Q>
      *         quantity.
      */
     public int compareTo(Quantity<Q> that) {
-        return Double.compare(value, that.getValue().doubleValue());
+        return Double.compare(value, that.doubleValue());
     }
 
     protected String showInUnits(TestUnit<?> u, int precision) {
@@ -155,6 +155,11 @@ public abstract class TestQuantity<Q extends Quantity<Q>> implements Quantity<Q>
         return value;
     }
 
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
     public Unit<Q> getUnit() {
         return unit;
     }
@@ -154,7 +154,6 @@ public class TemperatureUnit extends TestUnit<Temperature> {
 
 	@Override
 	public Unit<Temperature> prefix(Prefix prefix) {
-		return this.multiply(Math.pow(prefix.getValue().doubleValue(), 
-				prefix.getExponent()));
+		return this.multiply(prefix.getFactor());
 	}
 }